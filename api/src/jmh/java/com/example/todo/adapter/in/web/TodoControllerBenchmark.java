@@ -0,0 +1,62 @@
+package com.example.todo.adapter.in.web;
+
+import com.example.todo.application.query.TodoQuery;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Web-layer work per list request: status parsing and JSON serialization of the response body.
+ * The object mapper is configured the way Spring Boot configures the one used by MVC.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TodoControllerBenchmark {
+
+    @Param({"10", "1000", "50000"})
+    private int size;
+
+    private ObjectWriter writer;
+    private List<TodoResponse> todos;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+        writer = objectMapper.writerFor(objectMapper.getTypeFactory().constructCollectionType(List.class, TodoResponse.class));
+        Instant now = Instant.now();
+        todos = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Optional<LocalDate> dueDate = i % 2 == 0 ? Optional.of(LocalDate.of(2025, 1, 1).plusDays(i % 365)) : Optional.empty();
+            todos.add(new TodoResponse(UUID.randomUUID(), "Todo number " + i, dueDate, i % 3 == 0, now, now));
+        }
+    }
+
+    @Benchmark
+    public byte[] serializeList() throws Exception {
+        return writer.writeValueAsBytes(todos);
+    }
+
+    @Benchmark
+    public TodoQuery.Filter parseFilter() {
+        return TodoController.parseFilter("Completed");
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.todo.adapter.out.persistence;
+
+import com.example.todo.application.query.TodoQuery;
+import com.example.todo.application.result.TodoResult;
+import com.example.todo.domain.model.UserId;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.flywaydb.core.Flyway;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+/**
+ * One list page read the old way (managed entities, then {@code Todo}, then {@code TodoResult})
+ * against the projection {@link TodoListQuery} issues. Both run in a read-only session as a
+ * read-only transaction would; compare {@code gc.alloc.rate.norm} for the per-page allocation.
+ * Needs Docker: {@code ./gradlew jmh -PjmhIncludes=TodoListReadBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TodoListReadBenchmark {
+
+    private static final UserId USER = UserId.from("bench-user");
+
+    @Param({"20", "100", "500"})
+    private int pageSize;
+
+    private final TodoMapper mapper = new TodoMapper();
+    private PostgreSQLContainer<?> postgres;
+    private SessionFactory sessionFactory;
+    private TodoQuery query;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        postgres = new PostgreSQLContainer<>("postgres:14-alpine");
+        postgres.start();
+        Flyway.configure()
+            .dataSource(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword())
+            .locations("classpath:db/migration")
+            .load()
+            .migrate();
+        try (Connection connection = DriverManager.getConnection(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+             Statement statement = connection.createStatement()) {
+            statement.execute("""
+                INSERT INTO todos (id, user_id, title, due_date, done, created_at, updated_at)
+                SELECT gen_random_uuid(), '%s', 'Todo ' || n, current_date + n %% 30, n %% 3 = 0,
+                       now() - n * interval '1 second', now()
+                FROM generate_series(1, 1000) AS n
+                """.formatted(USER.value()));
+            statement.execute("ANALYZE todos");
+        }
+        sessionFactory = new Configuration()
+            .addAnnotatedClass(TodoJpaEntity.class)
+            .setProperty(AvailableSettings.JAKARTA_JDBC_URL, postgres.getJdbcUrl())
+            .setProperty(AvailableSettings.JAKARTA_JDBC_USER, postgres.getUsername())
+            .setProperty(AvailableSettings.JAKARTA_JDBC_PASSWORD, postgres.getPassword())
+            .buildSessionFactory();
+        query = new TodoQuery(TodoQuery.Filter.ALL, Optional.empty(), pageSize);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        sessionFactory.close();
+        postgres.stop();
+    }
+
+    @Benchmark
+    public List<TodoResult> entityPage() {
+        try (Session session = readOnlySession()) {
+            List<TodoJpaEntity> entities = session.createQuery(
+                    "from TodoJpaEntity t where t.userId = :userId order by t.createdAt desc, t.id desc", TodoJpaEntity.class)
+                .setParameter("userId", USER.value())
+                .setMaxResults(pageSize)
+                .getResultList();
+            List<TodoResult> results = new ArrayList<>(entities.size());
+            for (TodoJpaEntity entity : entities) {
+                results.add(TodoResult.from(mapper.toDomain(entity)));
+            }
+            session.getTransaction().commit();
+            return results;
+        }
+    }
+
+    @Benchmark
+    public List<TodoResult> projectionPage() {
+        try (Session session = readOnlySession()) {
+            List<TodoResult> results = new TodoListQuery(session).load(USER, query, pageSize);
+            session.getTransaction().commit();
+            return results;
+        }
+    }
+
+    private Session readOnlySession() {
+        Session session = sessionFactory.openSession();
+        session.setDefaultReadOnly(true);
+        session.beginTransaction();
+        return session;
+    }
+}
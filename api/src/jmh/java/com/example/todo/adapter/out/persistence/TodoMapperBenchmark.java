@@ -0,0 +1,45 @@
+package com.example.todo.adapter.out.persistence;
+
+import com.example.todo.domain.model.DueDate;
+import com.example.todo.domain.model.Title;
+import com.example.todo.domain.model.Todo;
+import com.example.todo.domain.model.UserId;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Per-row cost of crossing the persistence boundary in both directions.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TodoMapperBenchmark {
+
+    private final TodoMapper mapper = new TodoMapper();
+    private Todo todo;
+    private TodoJpaEntity entity;
+
+    @Setup
+    public void setUp() {
+        todo = Todo.create(UserId.from("bench-user"), Title.from("Benchmark todo"), DueDate.of(LocalDate.of(2025, 1, 1)), Instant.now());
+        entity = mapper.toEntity(todo);
+    }
+
+    @Benchmark
+    public TodoJpaEntity toEntity() {
+        return mapper.toEntity(todo);
+    }
+
+    @Benchmark
+    public Todo toDomain() {
+        return mapper.toDomain(entity);
+    }
+}
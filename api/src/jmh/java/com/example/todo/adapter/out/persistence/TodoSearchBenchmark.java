@@ -0,0 +1,103 @@
+package com.example.todo.adapter.out.persistence;
+
+import com.example.todo.application.query.TitleSearch;
+import com.example.todo.application.query.TodoQuery;
+import com.example.todo.application.result.TodoResult;
+import com.example.todo.domain.model.UserId;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.flywaydb.core.Flyway;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+/**
+ * Latency of one ranked search page against a migrated Postgres holding a million todos, read
+ * through {@link TodoListQuery} in a read-only session so the benchmark runs exactly the SQL the
+ * adapter generates. Needs Docker: {@code ./gradlew jmh -PjmhIncludes=TodoSearchBenchmark}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TodoSearchBenchmark {
+
+    private static final int TOTAL_TODOS = 1_000_000;
+
+    /** 1000 users hold 1k todos each; 20 users hold 50k each. */
+    @Param({"1000", "20"})
+    private int users;
+
+    /** A common word, a word fragment and a term that matches a handful of rows. */
+    @Param({"invoice", "ntis", "4242"})
+    private String term;
+
+    private PostgreSQLContainer<?> postgres;
+    private SessionFactory sessionFactory;
+    private TodoQuery query;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        postgres = new PostgreSQLContainer<>("postgres:14-alpine");
+        postgres.start();
+        Flyway.configure()
+            .dataSource(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword())
+            .locations("classpath:db/migration")
+            .load()
+            .migrate();
+        try (Connection connection = DriverManager.getConnection(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+             Statement statement = connection.createStatement()) {
+            statement.execute("""
+                INSERT INTO todos (id, user_id, title, due_date, done, created_at, updated_at)
+                SELECT gen_random_uuid(), 'user-' || (n %% %d),
+                       (ARRAY['Pay invoice', 'Groceries', 'Dentist', 'Quarterly report', 'Gym'])[n %% 5 + 1] || ' ' || n,
+                       NULL, n %% 3 = 0, now() - n * interval '1 second', now()
+                FROM generate_series(1, %d) AS n
+                """.formatted(users, TOTAL_TODOS));
+            statement.execute("ANALYZE todos");
+        }
+        sessionFactory = new Configuration()
+            .addAnnotatedClass(TodoJpaEntity.class)
+            .setProperty(AvailableSettings.JAKARTA_JDBC_URL, postgres.getJdbcUrl())
+            .setProperty(AvailableSettings.JAKARTA_JDBC_USER, postgres.getUsername())
+            .setProperty(AvailableSettings.JAKARTA_JDBC_PASSWORD, postgres.getPassword())
+            .buildSessionFactory();
+        query = new TodoQuery(TodoQuery.Filter.ALL, Optional.empty(), TodoQuery.DEFAULT_LIMIT, Optional.of(new TitleSearch(term)));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        sessionFactory.close();
+        postgres.stop();
+    }
+
+    @Benchmark
+    public List<TodoResult> searchPage() {
+        UserId user = UserId.from("user-" + ThreadLocalRandom.current().nextInt(users));
+        try (Session session = sessionFactory.openSession()) {
+            session.setDefaultReadOnly(true);
+            session.beginTransaction();
+            // One extra row, as the query service fetches to detect a next page.
+            List<TodoResult> results = new TodoListQuery(session).load(user, query, query.limit() + 1);
+            session.getTransaction().commit();
+            return results;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.todo.application;
+
+import com.example.todo.application.command.UpdateTodoCommand;
+import com.example.todo.application.result.TodoResult;
+import com.example.todo.domain.model.DueDate;
+import com.example.todo.domain.model.Title;
+import com.example.todo.domain.model.Todo;
+import com.example.todo.domain.model.UserId;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Command, value-object and result construction paid on every create, update and list row.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ApplicationMappingBenchmark {
+
+    private final String rawTitle = "  Buy milk and bread  ";
+    private final UUID todoId = UUID.randomUUID();
+    private Todo todo;
+
+    @Setup
+    public void setUp() {
+        todo = Todo.create(UserId.from("bench-user"), Title.from("Benchmark todo"), DueDate.of(LocalDate.of(2025, 1, 1)), Instant.now());
+    }
+
+    @Benchmark
+    public TodoResult todoResultFrom() {
+        return TodoResult.from(todo);
+    }
+
+    @Benchmark
+    public Title titleFrom() {
+        return Title.from(rawTitle);
+    }
+
+    @Benchmark
+    public UpdateTodoCommand updateCommandOf() {
+        return UpdateTodoCommand.of(todoId, Optional.of(rawTitle), true, Optional.empty(), false, Optional.of(Boolean.TRUE), true);
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.todo.adapter.in.web;
+
+import java.util.UUID;
+
+/**
+ * One entry of a batch request. {@code op} selects create, update or delete; the title, due date
+ * and done fields keep the same presence semantics as a single PATCH.
+ */
+public class BatchOperationRequest extends UpdateTodoRequest {
+
+    private String op;
+    private UUID id;
+
+    public String getOp() {
+        return op;
+    }
+
+    public void setOp(String op) {
+        this.op = op;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.todo.adapter.in.web;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class BatchTodoRequest {
+
+    private List<BatchOperationRequest> operations = new ArrayList<>();
+
+    public List<BatchOperationRequest> getOperations() {
+        return operations;
+    }
+
+    public void setOperations(List<BatchOperationRequest> operations) {
+        this.operations = operations == null ? new ArrayList<>() : operations;
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.todo.adapter.in.web;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.List;
+
+public record BatchTodoResponse(List<Result> results) {
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record Result(int index, String status, TodoResponse todo, String error) {
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.todo.adapter.in.web;
+
+import com.example.todo.application.command.BatchTodoCommand;
+import com.example.todo.application.command.CreateTodoCommand;
+import com.example.todo.application.command.DeleteTodoCommand;
+import com.example.todo.application.command.UpdateTodoCommand;
+import com.example.todo.application.port.in.AuthenticatedUser;
+import com.example.todo.application.port.in.BatchTodoUseCase;
+import com.example.todo.application.result.BatchOperationResult;
+import com.example.todo.config.FirebaseUserPrincipal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Applies many create/update/delete operations in one round-trip and one transaction.
+ * Each operation gets its own result; a failing operation does not abort the others.
+ */
+@RestController
+public class TodoBatchController {
+
+    private final BatchTodoUseCase batchTodoUseCase;
+
+    public TodoBatchController(BatchTodoUseCase batchTodoUseCase) {
+        this.batchTodoUseCase = batchTodoUseCase;
+    }
+
+    @PostMapping("/api/todos:batch")
+    public BatchTodoResponse batch(@RequestBody BatchTodoRequest request,
+                                   @AuthenticationPrincipal FirebaseUserPrincipal principal) {
+        AuthenticatedUser user = new AuthenticatedUser(principal.uid());
+        List<BatchTodoCommand.Operation> operations = new ArrayList<>(request.getOperations().size());
+        for (BatchOperationRequest operation : request.getOperations()) {
+            operations.add(toOperation(operation));
+        }
+        List<BatchOperationResult> results = batchTodoUseCase.execute(new BatchTodoCommand(operations), user);
+        List<BatchTodoResponse.Result> body = new ArrayList<>(results.size());
+        for (BatchOperationResult result : results) {
+            body.add(new BatchTodoResponse.Result(
+                result.index(),
+                result.status().name().toLowerCase(Locale.ROOT),
+                result.todo().map(TodoResponse::from).orElse(null),
+                result.error().orElse(null)
+            ));
+        }
+        return new BatchTodoResponse(body);
+    }
+
+    /**
+     * Entries that cannot become an operation (unknown op, missing id, empty update) are kept as
+     * {@link BatchTodoCommand.Invalid} so they fail in place like a blank title does.
+     */
+    private BatchTodoCommand.Operation toOperation(BatchOperationRequest request) {
+        String op = request.getOp() == null ? "" : request.getOp().toLowerCase(Locale.ROOT);
+        if (!op.equals("create") && !op.equals("update") && !op.equals("delete")) {
+            return new BatchTodoCommand.Invalid("Unsupported batch operation: " + request.getOp());
+        }
+        if (!op.equals("create") && request.getId() == null) {
+            return new BatchTodoCommand.Invalid("Operation '%s' requires an id".formatted(request.getOp()));
+        }
+        try {
+            return switch (op) {
+                case "create" -> new BatchTodoCommand.Create(
+                    new CreateTodoCommand(request.getTitle().orElse(null), request.getDueDate()));
+                case "update" -> new BatchTodoCommand.Update(UpdateTodoCommand.of(
+                    request.getId(),
+                    request.getTitle(),
+                    request.isTitleProvided(),
+                    request.getDueDate(),
+                    request.isDueDateProvided(),
+                    request.getDone(),
+                    request.isDoneProvided()
+                ));
+                default -> new BatchTodoCommand.Delete(new DeleteTodoCommand(request.getId()));
+            };
+        } catch (IllegalArgumentException ex) {
+            return new BatchTodoCommand.Invalid(ex.getMessage());
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.todo.adapter.in.web;
+
+import java.util.List;
+import java.util.UUID;
+
+public record TodoChangesResponse(List<TodoResponse> upserted, List<UUID> deleted, String syncToken, boolean resetRequired) {
+}
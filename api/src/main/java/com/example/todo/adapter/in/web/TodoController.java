@@ -6,16 +6,38 @@ import com.example.todo.application.command.UpdateTodoCommand;
 import com.example.todo.application.port.in.AuthenticatedUser;
 import com.example.todo.application.port.in.CreateTodoUseCase;
 import com.example.todo.application.port.in.DeleteTodoUseCase;
+import com.example.todo.application.port.in.GetTodoChangesQueryUseCase;
 import com.example.todo.application.port.in.GetTodosQueryUseCase;
 import com.example.todo.application.port.in.UpdateTodoUseCase;
+import com.example.todo.application.query.DueDateRange;
+import com.example.todo.application.query.SyncToken;
+import com.example.todo.application.query.TitleSearch;
+import com.example.todo.application.query.TodoCursor;
 import com.example.todo.application.query.TodoQuery;
+import com.example.todo.application.result.TodoDelta;
+import com.example.todo.application.result.TodoListVersion;
+import com.example.todo.application.result.TodoPage;
 import com.example.todo.application.result.TodoResult;
 import com.example.todo.common.InvalidTodoRequestException;
 import com.example.todo.config.FirebaseUserPrincipal;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HexFormat;
 import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
 import java.util.UUID;
-import java.util.stream.Collectors;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.annotation.Validated;
@@ -28,36 +50,97 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/api/todos")
 public class TodoController {
 
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    // Lets browsers keep the list and revalidate it with If-None-Match instead of refetching.
+    private static final CacheControl LIST_CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
     private final CreateTodoUseCase createTodoUseCase;
     private final UpdateTodoUseCase updateTodoUseCase;
     private final DeleteTodoUseCase deleteTodoUseCase;
     private final GetTodosQueryUseCase getTodosQueryUseCase;
+    private final GetTodoChangesQueryUseCase getTodoChangesQueryUseCase;
+    private final DistributionSummary listSize;
+    private final Clock clock;
 
     public TodoController(
         CreateTodoUseCase createTodoUseCase,
         UpdateTodoUseCase updateTodoUseCase,
         DeleteTodoUseCase deleteTodoUseCase,
-        GetTodosQueryUseCase getTodosQueryUseCase
+        GetTodosQueryUseCase getTodosQueryUseCase,
+        GetTodoChangesQueryUseCase getTodoChangesQueryUseCase,
+        MeterRegistry meterRegistry,
+        Clock clock
     ) {
         this.createTodoUseCase = createTodoUseCase;
         this.updateTodoUseCase = updateTodoUseCase;
         this.deleteTodoUseCase = deleteTodoUseCase;
         this.getTodosQueryUseCase = getTodosQueryUseCase;
+        this.getTodoChangesQueryUseCase = getTodoChangesQueryUseCase;
+        this.listSize = DistributionSummary.builder("todo.list.size")
+            .description("Todos returned per list page")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+        this.clock = clock;
     }
 
     @GetMapping
-    public List<TodoResponse> getTodos(@RequestParam(name = "status", defaultValue = "all") String status,
-                                       @AuthenticationPrincipal FirebaseUserPrincipal principal) {
+    public ResponseEntity<List<TodoResponse>> getTodos(@RequestParam(name = "status", defaultValue = "all") String status,
+                                                       @RequestParam(name = "cursor", required = false) String cursor,
+                                                       @RequestParam(name = "limit", defaultValue = "" + TodoQuery.DEFAULT_LIMIT) int limit,
+                                                       @RequestParam(name = "q", required = false) String q,
+                                                       @RequestParam(name = "sort", defaultValue = "created") String sort,
+                                                       @RequestParam(name = "dueFrom", required = false)
+                                                       @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueFrom,
+                                                       @RequestParam(name = "dueTo", required = false)
+                                                       @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueTo,
+                                                       @AuthenticationPrincipal FirebaseUserPrincipal principal,
+                                                       WebRequest request) {
         TodoQuery.Filter filter = parseFilter(status);
+        Optional<TodoCursor> after = Optional.ofNullable(cursor).map(TodoCursor::decode);
+        Optional<TitleSearch> search = Optional.ofNullable(q).map(TitleSearch::new);
+        DueDateRange due = new DueDateRange(Optional.ofNullable(dueFrom), Optional.ofNullable(dueTo));
+        AuthenticatedUser user = new AuthenticatedUser(principal.uid());
+        TodoQuery query = new TodoQuery(filter, after, limit, search, parseSort(sort), due);
+        // The version is read before the page, so a write landing in between yields a stale tag
+        // (forcing a refetch next time) rather than a fresh tag on stale content. The page is
+        // loaded against the same version, so a cached page older than the tag is never served.
+        TodoListVersion version = getTodosQueryUseCase.getListVersion(user);
+        String etag = listETag(version, query, LocalDate.now(clock));
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(LIST_CACHE_CONTROL).build();
+        }
+        TodoPage page = getTodosQueryUseCase.getTodos(query, version, user);
+        listSize.record(page.items().size());
+        List<TodoResponse> body = new ArrayList<>(page.items().size());
+        for (TodoResult result : page.items()) {
+            body.add(TodoResponse.from(result));
+        }
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok().eTag(etag).cacheControl(LIST_CACHE_CONTROL);
+        page.nextCursor().ifPresent(next -> response.header(NEXT_CURSOR_HEADER, next.encode()));
+        return response.body(body);
+    }
+
+    /**
+     * Delta sync: todos created, updated or deleted after {@code since}. Without a token, or when
+     * the gap is too large to send incrementally, the response asks for a full reload instead.
+     */
+    @GetMapping("/changes")
+    public TodoChangesResponse getChanges(@RequestParam(name = "since", required = false) String since,
+                                          @AuthenticationPrincipal FirebaseUserPrincipal principal) {
         AuthenticatedUser user = new AuthenticatedUser(principal.uid());
-        return getTodosQueryUseCase.getTodos(new TodoQuery(filter), user).stream()
-            .map(this::toResponse)
-            .collect(Collectors.toList());
+        TodoDelta delta = getTodoChangesQueryUseCase.getChanges(Optional.ofNullable(since).map(SyncToken::decode), user);
+        List<TodoResponse> upserted = new ArrayList<>(delta.upserted().size());
+        for (TodoResult result : delta.upserted()) {
+            upserted.add(TodoResponse.from(result));
+        }
+        return new TodoChangesResponse(upserted, delta.deleted(), delta.syncToken().encode(), delta.resetRequired());
     }
 
     @PostMapping
@@ -66,7 +149,7 @@ public class TodoController {
         AuthenticatedUser user = new AuthenticatedUser(principal.uid());
         TodoResult result = createTodoUseCase.create(new CreateTodoCommand(request.getTitle(), request.getDueDate()), user);
         URI location = URI.create("/api/todos/" + result.id());
-        return ResponseEntity.created(location).body(toResponse(result));
+        return ResponseEntity.created(location).body(TodoResponse.from(result));
     }
 
     @PatchMapping("/{id}")
@@ -90,7 +173,7 @@ public class TodoController {
             request.isDoneProvided()
         );
         TodoResult result = updateTodoUseCase.update(command, user);
-        return ResponseEntity.ok(toResponse(result));
+        return ResponseEntity.ok(TodoResponse.from(result));
     }
 
     @DeleteMapping("/{id}")
@@ -101,19 +184,49 @@ public class TodoController {
         return ResponseEntity.noContent().build();
     }
 
-    private TodoResponse toResponse(TodoResult result) {
-        return new TodoResponse(result.id(), result.title(), result.dueDate(), result.done(), result.createdAt(), result.updatedAt());
+    /**
+     * Strong ETag for one list page: the user's list version plus every query parameter that
+     * shapes the page, hashed so the tag stays short and opaque. Overdue pages also change with
+     * the date, so {@code today} is part of their tag.
+     */
+    static String listETag(TodoListVersion version, TodoQuery query, LocalDate today) {
+        String raw = version.count()
+            + "|" + version.lastUpdatedAt().map(Instant::toString).orElse("")
+            + "|" + query.filter()
+            + "|" + query.after().map(TodoCursor::encode).orElse("")
+            + "|" + query.limit()
+            + "|" + query.search().map(TitleSearch::term).orElse("")
+            + "|" + query.sort()
+            + "|" + query.due().from().map(LocalDate::toString).orElse("")
+            + "|" + query.due().to().map(LocalDate::toString).orElse("")
+            + "|" + (query.filter() == TodoQuery.Filter.OVERDUE ? today : "");
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(raw.getBytes(StandardCharsets.UTF_8));
+            return "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 not available", ex);
+        }
     }
 
-    private TodoQuery.Filter parseFilter(String value) {
+    static TodoQuery.Filter parseFilter(String value) {
         if (value == null) {
             return TodoQuery.Filter.ALL;
         }
         return switch (value.toLowerCase()) {
             case "active" -> TodoQuery.Filter.ACTIVE;
             case "done", "completed" -> TodoQuery.Filter.DONE;
+            case "overdue" -> TodoQuery.Filter.OVERDUE;
             case "all" -> TodoQuery.Filter.ALL;
             default -> throw new InvalidTodoRequestException("Unsupported status filter: " + value);
         };
     }
+
+    static TodoQuery.Sort parseSort(String value) {
+        return switch (value.toLowerCase(Locale.ROOT)) {
+            case "created" -> TodoQuery.Sort.CREATED;
+            case "due", "due_date" -> TodoQuery.Sort.DUE_DATE;
+            case "updated" -> TodoQuery.Sort.UPDATED;
+            default -> throw new InvalidTodoRequestException("Unsupported sort: " + value);
+        };
+    }
 }
@@ -0,0 +1,224 @@
+package com.example.todo.adapter.in.web;
+
+import com.example.todo.application.result.TodoResult;
+import com.example.todo.domain.event.TodoCreated;
+import com.example.todo.domain.event.TodoDeleted;
+import com.example.todo.domain.event.TodoEvent;
+import com.example.todo.domain.event.TodoUpdated;
+import com.example.todo.domain.model.UserId;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * In-process fan-out of committed todo events to each user's open SSE streams.
+ *
+ * <p>Publishing never blocks the writer: every subscriber has a bounded queue drained by its own
+ * virtual thread. A subscriber whose queue overflows is evicted; the client reconnects and
+ * catches up through {@code /api/todos/changes}. Each user keeps at most {@code maxPerUser}
+ * streams, the oldest being closed first.
+ */
+@Component
+class TodoEventBroadcaster implements MeterBinder {
+
+    private final Map<UserId, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+    private final AtomicInteger open = new AtomicInteger();
+    private final LongAdder evictions = new LongAdder();
+    private final int queueCapacity;
+    private final int maxPerUser;
+    private final Duration timeout;
+
+    @Autowired
+    TodoEventBroadcaster(@Value("${todo.stream.queue-capacity:256}") int queueCapacity,
+                         @Value("${todo.stream.max-per-user:8}") int maxPerUser,
+                         @Value("${todo.stream.timeout:30m}") Duration timeout) {
+        this.queueCapacity = queueCapacity;
+        this.maxPerUser = maxPerUser;
+        this.timeout = timeout;
+    }
+
+    SseEmitter subscribe(UserId userId) {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        register(userId, emitter);
+        return emitter;
+    }
+
+    void register(UserId userId, SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(userId, emitter, new ArrayBlockingQueue<>(queueCapacity));
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(error -> remove(subscriber));
+        List<Subscriber> displaced = new ArrayList<>();
+        subscribers.compute(userId, (id, current) -> {
+            Set<Subscriber> next = current == null ? new LinkedHashSet<>() : new LinkedHashSet<>(current);
+            next.add(subscriber);
+            var iterator = next.iterator();
+            while (next.size() > maxPerUser) {
+                displaced.add(iterator.next());
+                iterator.remove();
+            }
+            return next;
+        });
+        open.incrementAndGet();
+        for (Subscriber old : displaced) {
+            close(old);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    void on(TodoEvent event) {
+        Set<Subscriber> targets = subscribers.get(event.userId());
+        if (targets == null) {
+            return;
+        }
+        for (Subscriber subscriber : targets) {
+            if (subscriber.queue().offer(event)) {
+                schedule(subscriber);
+            } else {
+                evictions.increment();
+                close(subscriber);
+            }
+        }
+    }
+
+    int subscriberCount(UserId userId) {
+        Set<Subscriber> current = subscribers.get(userId);
+        return current == null ? 0 : current.size();
+    }
+
+    private void schedule(Subscriber subscriber) {
+        if (subscriber.draining().compareAndSet(false, true)) {
+            senders.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        while (true) {
+            TodoEvent event = subscriber.queue().poll();
+            if (event == null) {
+                subscriber.draining().set(false);
+                // An event offered after the poll but before the flag was cleared would otherwise wait.
+                if (subscriber.queue().isEmpty() || !subscriber.draining().compareAndSet(false, true)) {
+                    return;
+                }
+                continue;
+            }
+            try {
+                subscriber.emitter().send(toSseEvent(event));
+            } catch (IOException | IllegalStateException ex) {
+                close(subscriber);
+                return;
+            }
+        }
+    }
+
+    private static SseEmitter.SseEventBuilder toSseEvent(TodoEvent event) {
+        TodoEventResponse payload = switch (event) {
+            case TodoCreated created -> new TodoEventResponse(created.todoId().value(), TodoResponse.from(TodoResult.from(created.todo())));
+            case TodoUpdated updated -> new TodoEventResponse(updated.todoId().value(), TodoResponse.from(TodoResult.from(updated.todo())));
+            case TodoDeleted deleted -> new TodoEventResponse(deleted.todoId().value(), null);
+        };
+        String name = switch (event) {
+            case TodoCreated created -> "created";
+            case TodoUpdated updated -> "updated";
+            case TodoDeleted deleted -> "deleted";
+        };
+        return SseEmitter.event().name(name).data(payload, MediaType.APPLICATION_JSON);
+    }
+
+    private void close(Subscriber subscriber) {
+        if (remove(subscriber)) {
+            subscriber.emitter().complete();
+        }
+    }
+
+    private boolean remove(Subscriber subscriber) {
+        AtomicBoolean removed = new AtomicBoolean();
+        subscribers.computeIfPresent(subscriber.userId(), (id, current) -> {
+            if (!current.contains(subscriber)) {
+                return current;
+            }
+            removed.set(true);
+            Set<Subscriber> next = new LinkedHashSet<>(current);
+            next.remove(subscriber);
+            return next.isEmpty() ? null : next;
+        });
+        if (removed.get()) {
+            open.decrementAndGet();
+        }
+        return removed.get();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        for (Set<Subscriber> userSubscribers : List.copyOf(subscribers.values())) {
+            userSubscribers.forEach(this::close);
+        }
+        senders.shutdownNow();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("todo.stream.subscribers", open, AtomicInteger::get)
+            .description("Open todo event streams")
+            .register(registry);
+        FunctionCounter.builder("todo.stream.evictions", evictions, LongAdder::sum)
+            .description("Streams closed because the client fell too far behind")
+            .register(registry);
+    }
+
+    // Identity equality on purpose: two streams of the same user are distinct subscribers.
+    private static final class Subscriber {
+
+        private final UserId userId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<TodoEvent> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        Subscriber(UserId userId, SseEmitter emitter, BlockingQueue<TodoEvent> queue) {
+            this.userId = userId;
+            this.emitter = emitter;
+            this.queue = queue;
+        }
+
+        UserId userId() {
+            return userId;
+        }
+
+        SseEmitter emitter() {
+            return emitter;
+        }
+
+        BlockingQueue<TodoEvent> queue() {
+            return queue;
+        }
+
+        AtomicBoolean draining() {
+            return draining;
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.todo.adapter.in.web;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.UUID;
+
+/**
+ * Payload of one server-sent todo event; {@code todo} is absent for deletions.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record TodoEventResponse(UUID id, TodoResponse todo) {
+}
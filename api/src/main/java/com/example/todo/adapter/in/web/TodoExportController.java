@@ -0,0 +1,176 @@
+package com.example.todo.adapter.in.web;
+
+import com.example.todo.application.port.in.AuthenticatedUser;
+import com.example.todo.application.port.in.StreamTodosQueryUseCase;
+import com.example.todo.application.query.DueDateRange;
+import com.example.todo.application.query.TitleSearch;
+import com.example.todo.application.query.TodoQuery;
+import com.example.todo.application.result.TodoResult;
+import com.example.todo.common.InvalidTodoRequestException;
+import com.example.todo.config.FirebaseUserPrincipal;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Locale;
+import java.util.Optional;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * The caller's whole list, filtered and sorted like {@code GET /api/todos} but without paging,
+ * written while the rows are read: a JSON array by default, or with {@code format=ndjson} /
+ * {@code format=csv} a file that {@code POST /api/todos/import} accepts back. Neither the list
+ * nor the body is ever held in memory, so the first bytes leave as soon as the first rows arrive
+ * however long the list is.
+ *
+ * <p>The status is committed with the first flush; a failure after that truncates the body,
+ * which clients detect as invalid JSON or a missing final line break.
+ */
+@RestController
+public class TodoExportController {
+
+    static final String CSV_HEADER = "id,title,dueDate,done,createdAt,updatedAt";
+
+    enum Format {
+        JSON,
+        NDJSON,
+        CSV
+    }
+
+    private final StreamTodosQueryUseCase streamTodosQueryUseCase;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter todoWriter;
+
+    public TodoExportController(StreamTodosQueryUseCase streamTodosQueryUseCase, ObjectMapper objectMapper) {
+        this.streamTodosQueryUseCase = streamTodosQueryUseCase;
+        this.objectMapper = objectMapper;
+        // Flushing after every element would push each todo to the socket as its own chunk.
+        this.todoWriter = objectMapper.writerFor(TodoResponse.class).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    @GetMapping("/api/todos/export")
+    public void export(@RequestParam(name = "format", defaultValue = "json") String format,
+                       @RequestParam(name = "status", defaultValue = "all") String status,
+                       @RequestParam(name = "q", required = false) String q,
+                       @RequestParam(name = "sort", defaultValue = "created") String sort,
+                       @RequestParam(name = "dueFrom", required = false)
+                       @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueFrom,
+                       @RequestParam(name = "dueTo", required = false)
+                       @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate dueTo,
+                       @AuthenticationPrincipal FirebaseUserPrincipal principal,
+                       HttpServletResponse response) throws IOException {
+        TodoQuery query = new TodoQuery(
+            TodoController.parseFilter(status),
+            Optional.empty(),
+            TodoQuery.MAX_LIMIT,
+            Optional.ofNullable(q).map(TitleSearch::new),
+            TodoController.parseSort(sort),
+            new DueDateRange(Optional.ofNullable(dueFrom), Optional.ofNullable(dueTo))
+        );
+        AuthenticatedUser user = new AuthenticatedUser(principal.uid());
+        // Writers are not closed on failure: until their buffer first fills nothing has reached
+        // the response, so errors raised before the first rows (e.g. load shedding) keep their status.
+        switch (parseFormat(format)) {
+            case JSON -> {
+                response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+                JsonGenerator json = objectMapper.createGenerator(response.getOutputStream());
+                json.writeStartArray();
+                streamTodosQueryUseCase.streamTodos(query, user, result -> writeJson(json, result));
+                json.writeEndArray();
+                json.close();
+            }
+            case NDJSON -> {
+                response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+                response.setHeader(HttpHeaders.CONTENT_DISPOSITION, attachment("todos.ndjson"));
+                JsonGenerator json = objectMapper.createGenerator(response.getOutputStream());
+                json.setRootValueSeparator(null);
+                streamTodosQueryUseCase.streamTodos(query, user, result -> {
+                    writeJson(json, result);
+                    writeRaw(json, '\n');
+                });
+                json.close();
+            }
+            case CSV -> {
+                response.setContentType(TodoImportController.TEXT_CSV_VALUE + ";charset=UTF-8");
+                response.setHeader(HttpHeaders.CONTENT_DISPOSITION, attachment("todos.csv"));
+                Writer csv = new BufferedWriter(new OutputStreamWriter(response.getOutputStream(), StandardCharsets.UTF_8));
+                csv.write(CSV_HEADER + "\r\n");
+                streamTodosQueryUseCase.streamTodos(query, user, result -> writeCsv(csv, result));
+                csv.close();
+            }
+        }
+    }
+
+    static Format parseFormat(String value) {
+        return switch (value.toLowerCase(Locale.ROOT)) {
+            case "json" -> Format.JSON;
+            case "ndjson" -> Format.NDJSON;
+            case "csv" -> Format.CSV;
+            default -> throw new InvalidTodoRequestException("Unsupported export format: " + value);
+        };
+    }
+
+    private void writeJson(JsonGenerator json, TodoResult result) {
+        try {
+            todoWriter.writeValue(json, TodoResponse.from(result));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeRaw(JsonGenerator json, char c) {
+        try {
+            json.writeRaw(c);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeCsv(Writer csv, TodoResult result) {
+        try {
+            csv.write(result.id().toString());
+            csv.write(',');
+            csv.write(csvField(result.title()));
+            csv.write(',');
+            csv.write(result.dueDate().map(LocalDate::toString).orElse(""));
+            csv.write(',');
+            csv.write(Boolean.toString(result.done()));
+            csv.write(',');
+            csv.write(result.createdAt().toString());
+            csv.write(',');
+            csv.write(result.updatedAt().toString());
+            csv.write("\r\n");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Quotes a value containing a separator, quote or line break, doubling inner quotes (RFC 4180).
+     */
+    static String csvField(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+
+    private static String attachment(String filename) {
+        return ContentDisposition.attachment().filename(filename).build().toString();
+    }
+}
@@ -0,0 +1,163 @@
+package com.example.todo.adapter.in.web;
+
+import com.example.todo.application.command.ImportTodoCommand;
+import com.example.todo.application.port.in.AuthenticatedUser;
+import com.example.todo.application.port.in.ImportTodosUseCase;
+import com.example.todo.application.result.ImportChunkResult;
+import com.example.todo.common.ServiceOverloadedException;
+import com.example.todo.config.FirebaseUserPrincipal;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Bulk import from NDJSON or CSV, in the shapes {@code GET /api/todos/export} produces. The body
+ * is parsed as it arrives and imported {@code chunk-size} rows at a time, each chunk validated
+ * and inserted in its own transaction, so neither the request nor the report grows with the
+ * number of rows held in memory. Imported todos get new ids; ids and update times in the input
+ * are ignored.
+ *
+ * <p>If a chunk fails the import stops there and the report of what was committed is still
+ * returned, with 503 when the chunk was shed and 500 otherwise; see {@link TodoImportResponse}.
+ */
+@RestController
+public class TodoImportController {
+
+    private static final Logger log = LoggerFactory.getLogger(TodoImportController.class);
+
+    static final String TEXT_CSV_VALUE = "text/csv";
+
+    private final ImportTodosUseCase importTodosUseCase;
+    private final ObjectMapper objectMapper;
+    private final int chunkSize;
+    private final int maxErrorsPerChunk;
+
+    public TodoImportController(ImportTodosUseCase importTodosUseCase,
+                                ObjectMapper objectMapper,
+                                @Value("${todo.import.chunk-size:1000}") int chunkSize,
+                                @Value("${todo.import.max-errors-per-chunk:20}") int maxErrorsPerChunk) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("Import chunk size must be positive");
+        }
+        this.importTodosUseCase = importTodosUseCase;
+        this.objectMapper = objectMapper;
+        this.chunkSize = chunkSize;
+        this.maxErrorsPerChunk = maxErrorsPerChunk;
+    }
+
+    @PostMapping(value = "/api/todos/import", consumes = {MediaType.APPLICATION_NDJSON_VALUE, TEXT_CSV_VALUE})
+    public ResponseEntity<TodoImportResponse> importTodos(@AuthenticationPrincipal FirebaseUserPrincipal principal,
+                                                          HttpServletRequest request) throws IOException {
+        MediaType contentType = MediaType.parseMediaType(request.getContentType());
+        TodoImportReader.Format format = contentType.isCompatibleWith(MediaType.APPLICATION_NDJSON)
+            ? TodoImportReader.Format.NDJSON
+            : TodoImportReader.Format.CSV;
+        Charset charset = Optional.ofNullable(contentType.getCharset()).orElse(StandardCharsets.UTF_8);
+        AuthenticatedUser user = new AuthenticatedUser(principal.uid());
+
+        TodoImportReader reader = new TodoImportReader(
+            new BufferedReader(new InputStreamReader(request.getInputStream(), charset)), format, objectMapper);
+        List<TodoImportResponse.Chunk> chunks = new ArrayList<>();
+        List<TodoImportReader.Row> rows = new ArrayList<>(chunkSize);
+        Optional<RuntimeException> failure = Optional.empty();
+        for (Optional<TodoImportReader.Row> row = reader.next(); row.isPresent(); row = reader.next()) {
+            rows.add(row.get());
+            if (rows.size() == chunkSize) {
+                failure = tryImportChunk(rows, user, chunks);
+                rows.clear();
+                if (failure.isPresent()) {
+                    break;
+                }
+            }
+        }
+        if (failure.isEmpty() && !rows.isEmpty()) {
+            failure = tryImportChunk(rows, user, chunks);
+        }
+        int imported = 0;
+        int failed = 0;
+        for (TodoImportResponse.Chunk chunk : chunks) {
+            imported += chunk.imported();
+            failed += chunk.failed();
+        }
+        TodoImportResponse report = new TodoImportResponse(imported, failed, failure.isEmpty(), chunks);
+        if (failure.isEmpty()) {
+            return ResponseEntity.ok(report);
+        }
+        if (failure.get() instanceof ServiceOverloadedException overloaded) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(Math.max(1, overloaded.retryAfter().toSeconds())))
+                .body(report);
+        }
+        return ResponseEntity.internalServerError().body(report);
+    }
+
+    /**
+     * Imports one chunk and appends its report. A chunk that could not be committed is reported
+     * as not imported and its failure returned, so the caller stops and still answers with what
+     * earlier chunks committed.
+     */
+    private Optional<RuntimeException> tryImportChunk(List<TodoImportReader.Row> rows, AuthenticatedUser user,
+                                                      List<TodoImportResponse.Chunk> chunks) {
+        int index = chunks.size();
+        try {
+            chunks.add(importChunk(index, rows, user));
+            return Optional.empty();
+        } catch (RuntimeException ex) {
+            String message;
+            if (ex instanceof ServiceOverloadedException) {
+                message = ex.getMessage();
+            } else {
+                log.warn("Import chunk {} failed", index, ex);
+                message = "Chunk could not be imported";
+            }
+            chunks.add(new TodoImportResponse.Chunk(index, rows.get(0).line(), rows.get(rows.size() - 1).line(),
+                TodoImportResponse.Status.NOT_IMPORTED, 0, rows.size(), List.of(), Optional.of(message)));
+            return Optional.of(ex);
+        }
+    }
+
+    private TodoImportResponse.Chunk importChunk(int index, List<TodoImportReader.Row> rows, AuthenticatedUser user) {
+        List<ImportTodoCommand> commands = new ArrayList<>(rows.size());
+        List<Integer> lines = new ArrayList<>(rows.size());
+        List<TodoImportResponse.RowError> errors = new ArrayList<>();
+        for (TodoImportReader.Row row : rows) {
+            if (row.command().isPresent()) {
+                commands.add(row.command().get());
+                lines.add(row.line());
+            } else {
+                errors.add(new TodoImportResponse.RowError(row.line(), row.error().orElseThrow()));
+            }
+        }
+        int imported = 0;
+        if (!commands.isEmpty()) {
+            ImportChunkResult result = importTodosUseCase.importChunk(commands, user);
+            imported = result.imported();
+            for (ImportChunkResult.RowError error : result.errors()) {
+                errors.add(new TodoImportResponse.RowError(lines.get(error.index()), error.message()));
+            }
+        }
+        int failed = errors.size();
+        errors.sort(Comparator.comparingInt(TodoImportResponse.RowError::line));
+        List<TodoImportResponse.RowError> listed = List.copyOf(errors.subList(0, Math.min(failed, maxErrorsPerChunk)));
+        return new TodoImportResponse.Chunk(index, rows.get(0).line(), rows.get(rows.size() - 1).line(),
+            TodoImportResponse.Status.IMPORTED, imported, failed, listed, Optional.empty());
+    }
+}
@@ -0,0 +1,256 @@
+package com.example.todo.adapter.in.web;
+
+import com.example.todo.application.command.ImportTodoCommand;
+import com.example.todo.common.InvalidTodoRequestException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.Reader;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Reads an import body one row at a time, as NDJSON (one todo object per line) or as CSV with a
+ * header row naming its columns (RFC 4180 quoting, so titles may contain commas, quotes and line
+ * breaks). Rows longer than {@link #MAX_ROW_CHARS} are skipped rather than buffered, so memory
+ * stays bounded whatever the input. Rows that cannot be parsed come back with an error instead
+ * of a command; the caller reports them next to the validation errors.
+ */
+final class TodoImportReader {
+
+    enum Format {
+        NDJSON,
+        CSV
+    }
+
+    /** One row of input, by the line it starts on. */
+    record Row(int line, Optional<ImportTodoCommand> command, Optional<String> error) {
+
+        static Row parsed(int line, ImportTodoCommand command) {
+            return new Row(line, Optional.of(command), Optional.empty());
+        }
+
+        static Row failed(int line, String error) {
+            return new Row(line, Optional.empty(), Optional.of(error));
+        }
+    }
+
+    static final int MAX_ROW_CHARS = 4096;
+
+    private final Reader in;
+    private final Format format;
+    private final ObjectMapper objectMapper;
+    private final Map<String, Integer> columns = new HashMap<>();
+    private int line = 1;
+    private int pending = -1;
+
+    /**
+     * @param in a buffered reader; it is read one character at a time
+     */
+    TodoImportReader(Reader in, Format format, ObjectMapper objectMapper) throws IOException {
+        this.in = in;
+        this.format = format;
+        this.objectMapper = objectMapper;
+        if (format == Format.CSV) {
+            Optional<Record> header = readRecord();
+            if (header.isEmpty() || header.get().error().isPresent()) {
+                throw new InvalidTodoRequestException("CSV import needs a header row");
+            }
+            List<String> names = header.get().fields();
+            for (int i = 0; i < names.size(); i++) {
+                columns.putIfAbsent(names.get(i).trim().toLowerCase(Locale.ROOT), i);
+            }
+            if (!columns.containsKey("title")) {
+                throw new InvalidTodoRequestException("CSV import needs a title column");
+            }
+        }
+    }
+
+    /**
+     * The next non-blank row, or empty at the end of the input.
+     */
+    Optional<Row> next() throws IOException {
+        while (true) {
+            int start = line;
+            Optional<Record> record = readRecord();
+            if (record.isEmpty()) {
+                return Optional.empty();
+            }
+            if (record.get().error().isPresent()) {
+                return Optional.of(Row.failed(start, record.get().error().get()));
+            }
+            List<String> fields = record.get().fields();
+            if (fields.size() == 1 && fields.get(0).isBlank()) {
+                continue;
+            }
+            try {
+                ImportTodoCommand command = format == Format.CSV ? fromCsv(fields) : fromJson(fields.get(0));
+                return Optional.of(Row.parsed(start, command));
+            } catch (IllegalArgumentException | DateTimeParseException ex) {
+                return Optional.of(Row.failed(start, ex.getMessage()));
+            }
+        }
+    }
+
+    private ImportTodoCommand fromCsv(List<String> fields) {
+        return new ImportTodoCommand(
+            csvField(fields, "title").orElse(""),
+            csvField(fields, "duedate").filter(value -> !value.isBlank()).map(value -> parseDate(value.trim())),
+            csvField(fields, "done").filter(value -> !value.isBlank()).map(value -> parseDone(value.trim())).orElse(false),
+            csvField(fields, "createdat").filter(value -> !value.isBlank()).map(value -> parseInstant(value.trim()))
+        );
+    }
+
+    private Optional<String> csvField(List<String> fields, String column) {
+        Integer index = columns.get(column);
+        return index == null || index >= fields.size() ? Optional.empty() : Optional.of(fields.get(index));
+    }
+
+    private ImportTodoCommand fromJson(String text) {
+        JsonNode node;
+        try {
+            node = objectMapper.readTree(text);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalArgumentException("Malformed JSON");
+        }
+        if (!node.isObject()) {
+            throw new IllegalArgumentException("Expected a JSON object");
+        }
+        JsonNode done = node.path("done");
+        if (!done.isMissingNode() && !done.isNull() && !done.isBoolean()) {
+            throw new IllegalArgumentException("done must be true or false");
+        }
+        return new ImportTodoCommand(
+            node.path("title").isTextual() ? node.get("title").asText() : null,
+            jsonText(node, "dueDate").map(TodoImportReader::parseDate),
+            done.asBoolean(false),
+            jsonText(node, "createdAt").map(TodoImportReader::parseInstant)
+        );
+    }
+
+    private static Optional<String> jsonText(JsonNode node, String field) {
+        JsonNode value = node.path(field);
+        if (value.isMissingNode() || value.isNull()) {
+            return Optional.empty();
+        }
+        if (!value.isTextual()) {
+            throw new IllegalArgumentException(field + " must be a string");
+        }
+        return Optional.of(value.asText());
+    }
+
+    private static LocalDate parseDate(String value) {
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException ex) {
+            throw new IllegalArgumentException("dueDate must be an ISO date (yyyy-MM-dd)");
+        }
+    }
+
+    private static Instant parseInstant(String value) {
+        try {
+            return Instant.parse(value);
+        } catch (DateTimeParseException ex) {
+            throw new IllegalArgumentException("createdAt must be an ISO instant");
+        }
+    }
+
+    private static boolean parseDone(String value) {
+        return switch (value.toLowerCase(Locale.ROOT)) {
+            case "true" -> true;
+            case "false" -> false;
+            default -> throw new IllegalArgumentException("done must be true or false");
+        };
+    }
+
+    /**
+     * Reads up to the end of the current record. NDJSON records are single lines returned as one
+     * field; CSV line breaks inside quotes belong to the field.
+     */
+    private Optional<Record> readRecord() throws IOException {
+        boolean csv = format == Format.CSV;
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean read = false;
+        int length = 0;
+        int c;
+        while ((c = read()) != -1) {
+            read = true;
+            length++;
+            if (quoted) {
+                if (c == '"') {
+                    int following = read();
+                    if (following == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        pending = following;
+                    }
+                } else {
+                    if (c == '\n') {
+                        line++;
+                    }
+                    append(field, c, length);
+                }
+            } else if (c == '\n') {
+                line++;
+                break;
+            } else if (c == '\r') {
+                continue;
+            } else if (csv && c == ',') {
+                // Like characters, fields past the cap are consumed but not kept.
+                if (length <= MAX_ROW_CHARS) {
+                    fields.add(field.toString());
+                }
+                field.setLength(0);
+            } else if (csv && c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else {
+                append(field, c, length);
+            }
+        }
+        if (!read) {
+            return Optional.empty();
+        }
+        if (quoted) {
+            return Optional.of(Record.failed("Unterminated quoted field"));
+        }
+        if (length > MAX_ROW_CHARS) {
+            return Optional.of(Record.failed("Row is longer than " + MAX_ROW_CHARS + " characters"));
+        }
+        fields.add(field.toString());
+        return Optional.of(new Record(fields, Optional.empty()));
+    }
+
+    private static void append(StringBuilder field, int c, int length) {
+        // Past the cap the rest of the row is consumed but not kept.
+        if (length <= MAX_ROW_CHARS) {
+            field.append((char) c);
+        }
+    }
+
+    private int read() throws IOException {
+        if (pending != -1) {
+            int c = pending;
+            pending = -1;
+            return c;
+        }
+        return in.read();
+    }
+
+    private record Record(List<String> fields, Optional<String> error) {
+
+        static Record failed(String error) {
+            return new Record(List.of(), Optional.of(error));
+        }
+    }
+}
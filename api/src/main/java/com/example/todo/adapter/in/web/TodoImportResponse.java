@@ -0,0 +1,31 @@
+package com.example.todo.adapter.in.web;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Import report: totals plus one entry per chunk. Each chunk commits on its own, so a chunk's
+ * counts are final even if a later chunk fails. Only the first few errors of a chunk are listed;
+ * {@code failed} counts them all.
+ *
+ * <p>When a chunk cannot be committed (e.g. the server is shedding load) the import stops there:
+ * that chunk is reported {@link Status#NOT_IMPORTED} with all its rows failed, {@code complete}
+ * is false, and the input from that chunk's {@code firstLine} on can be sent again without
+ * duplicating the rows already imported.
+ */
+public record TodoImportResponse(int imported, int failed, boolean complete, List<Chunk> chunks) {
+
+    public enum Status {
+        IMPORTED,
+        NOT_IMPORTED
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public record Chunk(int index, int firstLine, int lastLine, Status status, int imported, int failed,
+                        List<RowError> errors, Optional<String> error) {
+    }
+
+    public record RowError(int line, String message) {
+    }
+}
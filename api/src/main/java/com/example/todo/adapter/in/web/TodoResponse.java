@@ -1,5 +1,6 @@
 package com.example.todo.adapter.in.web;
 
+import com.example.todo.application.result.TodoResult;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import java.time.Instant;
 import java.time.LocalDate;
@@ -15,4 +16,8 @@ public record TodoResponse(
     Instant createdAt,
     Instant updatedAt
 ) {
+
+    static TodoResponse from(TodoResult result) {
+        return new TodoResponse(result.id(), result.title(), result.dueDate(), result.done(), result.createdAt(), result.updatedAt());
+    }
 }
@@ -0,0 +1,28 @@
+package com.example.todo.adapter.in.web;
+
+import com.example.todo.application.port.in.AuthenticatedUser;
+import com.example.todo.config.FirebaseUserPrincipal;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Pushes the caller's todo changes as server-sent events ({@code created}, {@code updated},
+ * {@code deleted}), so open clients no longer poll the list.
+ */
+@RestController
+public class TodoStreamController {
+
+    private final TodoEventBroadcaster broadcaster;
+
+    TodoStreamController(TodoEventBroadcaster broadcaster) {
+        this.broadcaster = broadcaster;
+    }
+
+    @GetMapping(value = "/api/todos/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@AuthenticationPrincipal FirebaseUserPrincipal principal) {
+        return broadcaster.subscribe(new AuthenticatedUser(principal.uid()).toUserId());
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.todo.adapter.out.auth;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * Reads a JWKS document from disk, e.g. a mounted secret or a fixture for local development.
+ * Re-read on every refresh so rotated files are picked up without a restart.
+ */
+public class FilePublicKeySource implements PublicKeySource {
+
+    private final Path path;
+
+    public FilePublicKeySource(Path path) {
+        this.path = path;
+    }
+
+    @Override
+    public SigningKeys fetch() throws IOException {
+        try (InputStream in = Files.newInputStream(path)) {
+            return new SigningKeys(JwksParser.parse(in), Optional.empty());
+        }
+    }
+}
@@ -3,14 +3,16 @@ package com.example.todo.adapter.out.auth;
 import java.util.Optional;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
 /**
- * Minimal Firebase token verifier placeholder.
- * In production this should call Firebase Admin SDK to validate the token and extract the UID.
+ * Minimal Firebase token verifier placeholder, active unless {@code todo.auth.verifier=jwks}.
+ * Production deployments should use {@link FirebaseJwtVerifier}.
  */
 @Component
+@ConditionalOnProperty(name = "todo.auth.verifier", havingValue = "placeholder", matchIfMissing = true)
 public class FirebaseAuthAdapter implements FirebaseTokenVerifier {
 
     private static final Logger log = LoggerFactory.getLogger(FirebaseAuthAdapter.class);
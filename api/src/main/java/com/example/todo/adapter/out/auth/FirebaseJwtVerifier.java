@@ -0,0 +1,113 @@
+package com.example.todo.adapter.out.auth;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.time.Clock;
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Verifies Firebase ID tokens locally: RS256 signature against the cached signing keys, then the
+ * Firebase claim rules (audience, issuer, subject, issued/expiry times). No network I/O happens
+ * here; keys are maintained by {@link RefreshingKeyStore}.
+ */
+public class FirebaseJwtVerifier implements FirebaseTokenVerifier {
+
+    private static final Logger log = LoggerFactory.getLogger(FirebaseJwtVerifier.class);
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final Duration CLOCK_SKEW = Duration.ofSeconds(60);
+
+    private final RefreshingKeyStore keys;
+    private final String projectId;
+    private final String issuer;
+    private final Clock clock;
+
+    public FirebaseJwtVerifier(RefreshingKeyStore keys, String projectId, Clock clock) {
+        this.keys = keys;
+        this.projectId = projectId;
+        this.issuer = "https://securetoken.google.com/" + projectId;
+        this.clock = clock;
+    }
+
+    @Override
+    public Optional<FirebaseUser> verify(String bearerToken) {
+        String[] parts = bearerToken.trim().split("\\.", -1);
+        if (parts.length != 3) {
+            return Optional.empty();
+        }
+        try {
+            Base64.Decoder decoder = Base64.getUrlDecoder();
+            JsonNode header = MAPPER.readTree(decoder.decode(parts[0]));
+            if (!"RS256".equals(header.path("alg").asText())) {
+                return Optional.empty();
+            }
+            Optional<PublicKey> key = keys.find(header.path("kid").asText());
+            if (key.isEmpty()) {
+                log.debug("Rejecting token signed with unknown key id");
+                return Optional.empty();
+            }
+            if (!signatureMatches(key.get(), parts[0] + "." + parts[1], decoder.decode(parts[2]))) {
+                return Optional.empty();
+            }
+            return claims(MAPPER.readTree(decoder.decode(parts[1])));
+        } catch (IOException | IllegalArgumentException | DateTimeException | GeneralSecurityException ex) {
+            log.debug("Rejecting malformed token", ex);
+            return Optional.empty();
+        }
+    }
+
+    private static boolean signatureMatches(PublicKey key, String signedContent, byte[] signature) throws GeneralSecurityException {
+        Signature verifier = Signature.getInstance("SHA256withRSA");
+        verifier.initVerify(key);
+        verifier.update(signedContent.getBytes(StandardCharsets.US_ASCII));
+        return verifier.verify(signature);
+    }
+
+    private Optional<FirebaseUser> claims(JsonNode claims) {
+        Instant now = clock.instant();
+        String subject = claims.path("sub").asText("");
+        Optional<Instant> exp = epochSeconds(claims, "exp");
+        Optional<Instant> iat = epochSeconds(claims, "iat");
+        if (exp.isEmpty() || iat.isEmpty()) {
+            return Optional.empty();
+        }
+        Instant expiresAt = exp.get();
+        Instant issuedAt = iat.get();
+        boolean valid = projectId.equals(claims.path("aud").asText())
+            && issuer.equals(claims.path("iss").asText())
+            && !subject.isBlank()
+            && subject.length() <= 128
+            && expiresAt.isAfter(now.minus(CLOCK_SKEW))
+            && !issuedAt.isAfter(now.plus(CLOCK_SKEW));
+        if (!valid) {
+            return Optional.empty();
+        }
+        return Optional.of(new FirebaseUser(subject, Optional.of(expiresAt)));
+    }
+
+    /**
+     * A NumericDate claim as an instant; empty when it is missing, not an integer or outside the
+     * range {@link Instant} can represent.
+     */
+    private static Optional<Instant> epochSeconds(JsonNode claims, String name) {
+        JsonNode value = claims.path(name);
+        if (!value.isIntegralNumber() || !value.canConvertToLong()) {
+            return Optional.empty();
+        }
+        long seconds = value.asLong();
+        if (seconds < Instant.MIN.getEpochSecond() || seconds > Instant.MAX.getEpochSecond()) {
+            return Optional.empty();
+        }
+        return Optional.of(Instant.ofEpochSecond(seconds));
+    }
+}
@@ -1,10 +1,21 @@
 package com.example.todo.adapter.out.auth;
 
-public record FirebaseUser(String uid) {
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Identity extracted from a verified ID token, with the token's {@code exp} claim when known.
+ */
+public record FirebaseUser(String uid, Optional<Instant> expiresAt) {
 
     public FirebaseUser {
         if (uid == null || uid.isBlank()) {
             throw new IllegalArgumentException("uid must not be blank");
         }
+        expiresAt = expiresAt == null ? Optional.empty() : expiresAt;
+    }
+
+    public FirebaseUser(String uid) {
+        this(uid, Optional.empty());
     }
 }
@@ -0,0 +1,67 @@
+package com.example.todo.adapter.out.auth;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Fetches a JWKS document over HTTP, honouring the {@code Cache-Control: max-age} the server sends.
+ * Points at Google's Firebase key endpoint in production, or at a local stand-in for development.
+ */
+public class HttpPublicKeySource implements PublicKeySource {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private final URI uri;
+    private final HttpClient client;
+
+    public HttpPublicKeySource(URI uri) {
+        this(uri, HttpClient.newBuilder().connectTimeout(TIMEOUT).build());
+    }
+
+    HttpPublicKeySource(URI uri, HttpClient client) {
+        this.uri = uri;
+        this.client = client;
+    }
+
+    @Override
+    public SigningKeys fetch() throws IOException {
+        HttpRequest request = HttpRequest.newBuilder(uri).timeout(TIMEOUT).GET().build();
+        HttpResponse<InputStream> response;
+        try {
+            response = client.send(request, HttpResponse.BodyHandlers.ofInputStream());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while fetching signing keys", ex);
+        }
+        try (InputStream body = response.body()) {
+            if (response.statusCode() != 200) {
+                throw new IOException("Signing key endpoint returned " + response.statusCode());
+            }
+            return new SigningKeys(JwksParser.parse(body), maxAge(response.headers().firstValue("Cache-Control")));
+        }
+    }
+
+    static Optional<Duration> maxAge(Optional<String> cacheControl) {
+        if (cacheControl.isEmpty()) {
+            return Optional.empty();
+        }
+        for (String directive : cacheControl.get().split(",")) {
+            String trimmed = directive.trim().toLowerCase(Locale.ROOT);
+            if (trimmed.startsWith("max-age=")) {
+                try {
+                    return Optional.of(Duration.ofSeconds(Long.parseLong(trimmed.substring("max-age=".length()))));
+                } catch (NumberFormatException ex) {
+                    return Optional.empty();
+                }
+            }
+        }
+        return Optional.empty();
+    }
+}
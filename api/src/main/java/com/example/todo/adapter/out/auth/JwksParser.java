@@ -0,0 +1,50 @@
+package com.example.todo.adapter.out.auth;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.RSAPublicKeySpec;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Reads RSA signing keys from a JSON Web Key Set document.
+ */
+final class JwksParser {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private JwksParser() {
+    }
+
+    static Map<String, PublicKey> parse(InputStream json) throws IOException {
+        JsonNode keys = MAPPER.readTree(json).path("keys");
+        Map<String, PublicKey> result = new HashMap<>();
+        for (JsonNode key : keys) {
+            if (!"RSA".equals(key.path("kty").asText()) || !key.hasNonNull("kid")) {
+                continue;
+            }
+            result.put(key.get("kid").asText(), rsaKey(key.path("n").asText(), key.path("e").asText()));
+        }
+        return result;
+    }
+
+    private static PublicKey rsaKey(String modulus, String exponent) throws IOException {
+        try {
+            Base64.Decoder decoder = Base64.getUrlDecoder();
+            RSAPublicKeySpec spec = new RSAPublicKeySpec(
+                new BigInteger(1, decoder.decode(modulus)),
+                new BigInteger(1, decoder.decode(exponent))
+            );
+            return KeyFactory.getInstance("RSA").generatePublic(spec);
+        } catch (GeneralSecurityException | IllegalArgumentException ex) {
+            throw new IOException("Invalid RSA key in JWKS", ex);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.todo.adapter.out.auth;
+
+import java.io.IOException;
+
+/**
+ * Supplies the current set of token-signing keys. Implementations may block on I/O; they are
+ * only ever called from the background refresher, never on a request thread.
+ */
+public interface PublicKeySource {
+
+    SigningKeys fetch() throws IOException;
+}
@@ -0,0 +1,85 @@
+package com.example.todo.adapter.out.auth;
+
+import java.security.PublicKey;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Holds the current signing keys in memory and refreshes them on a background thread, so key
+ * lookups on the request path are a map read. The next refresh is scheduled at the source's
+ * {@code max-age} (clamped to sane bounds); failed refreshes keep the previous keys and retry.
+ */
+public class RefreshingKeyStore implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(RefreshingKeyStore.class);
+    private static final Duration MIN_REFRESH = Duration.ofSeconds(30);
+    private static final Duration MAX_REFRESH = Duration.ofHours(6);
+    private static final Duration RETRY = Duration.ofSeconds(30);
+
+    private final PublicKeySource source;
+    private final Duration defaultRefresh;
+    private final ScheduledExecutorService scheduler;
+    private final AtomicReference<SigningKeys> current = new AtomicReference<>(SigningKeys.empty());
+
+    public RefreshingKeyStore(PublicKeySource source, Duration defaultRefresh) {
+        this(source, defaultRefresh, Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "signing-key-refresh");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    RefreshingKeyStore(PublicKeySource source, Duration defaultRefresh, ScheduledExecutorService scheduler) {
+        this.source = source;
+        this.defaultRefresh = defaultRefresh;
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * Loads keys once on the calling (startup) thread, then keeps them fresh in the background.
+     */
+    public void start() {
+        schedule(refresh());
+    }
+
+    public Optional<PublicKey> find(String keyId) {
+        return Optional.ofNullable(current.get().keys().get(keyId));
+    }
+
+    Duration refresh() {
+        try {
+            SigningKeys keys = source.fetch();
+            current.set(keys);
+            log.debug("Loaded {} signing keys", keys.keys().size());
+            return clamp(keys.maxAge().orElse(defaultRefresh));
+        } catch (Exception ex) {
+            log.warn("Signing key refresh failed; keeping {} cached keys", current.get().keys().size(), ex);
+            return RETRY;
+        }
+    }
+
+    private void schedule(Duration delay) {
+        if (scheduler.isShutdown()) {
+            return;
+        }
+        scheduler.schedule(() -> schedule(refresh()), delay.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    private static Duration clamp(Duration delay) {
+        if (delay.compareTo(MIN_REFRESH) < 0) {
+            return MIN_REFRESH;
+        }
+        return delay.compareTo(MAX_REFRESH) > 0 ? MAX_REFRESH : delay;
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.todo.adapter.out.auth;
+
+import java.security.PublicKey;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Signing keys by {@code kid}, with how long the source says they may be cached.
+ */
+public record SigningKeys(Map<String, PublicKey> keys, Optional<Duration> maxAge) {
+
+    public SigningKeys {
+        keys = Map.copyOf(keys);
+        maxAge = maxAge == null ? Optional.empty() : maxAge;
+    }
+
+    static SigningKeys empty() {
+        return new SigningKeys(Map.of(), Optional.empty());
+    }
+}
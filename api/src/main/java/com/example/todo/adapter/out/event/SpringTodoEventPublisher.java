@@ -0,0 +1,25 @@
+package com.example.todo.adapter.out.event;
+
+import com.example.todo.application.port.out.PublishTodoEventPort;
+import com.example.todo.domain.event.TodoEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hands todo events to Spring's application event bus. Listeners decide their own transaction
+ * phase, e.g. {@code @TransactionalEventListener} to react only after commit.
+ */
+@Component
+class SpringTodoEventPublisher implements PublishTodoEventPort {
+
+    private final ApplicationEventPublisher publisher;
+
+    SpringTodoEventPublisher(ApplicationEventPublisher publisher) {
+        this.publisher = publisher;
+    }
+
+    @Override
+    public void publish(TodoEvent event) {
+        publisher.publishEvent(event);
+    }
+}
@@ -0,0 +1,4 @@
+@NonNullApi
+package com.example.todo.adapter.out.event;
+
+import org.springframework.lang.NonNullApi;
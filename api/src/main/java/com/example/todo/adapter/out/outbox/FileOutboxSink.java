@@ -0,0 +1,35 @@
+package com.example.todo.adapter.out.outbox;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Stand-in sink that appends each message payload as one JSON line to a file.
+ */
+public class FileOutboxSink implements OutboxSink {
+
+    private final Path file;
+
+    public FileOutboxSink(Path file) {
+        this.file = file;
+    }
+
+    @Override
+    public synchronized void publish(List<OutboxMessage> batch) {
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+            StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.WRITE)) {
+            for (OutboxMessage message : batch) {
+                writer.write(message.payload());
+                writer.newLine();
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Failed to append outbox batch to " + file, ex);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.todo.adapter.out.outbox;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * One relayed outbox entry. {@code id} increases with insertion order; {@code payload} is the
+ * event serialized as JSON.
+ */
+public record OutboxMessage(long id, String type, UUID todoId, String userId, Instant occurredAt, String payload) {
+
+    public OutboxMessage {
+        Objects.requireNonNull(type, "type");
+        Objects.requireNonNull(todoId, "todoId");
+        Objects.requireNonNull(userId, "userId");
+        Objects.requireNonNull(occurredAt, "occurredAt");
+        Objects.requireNonNull(payload, "payload");
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.todo.adapter.out.outbox;
+
+import java.util.List;
+
+/**
+ * Destination of relayed todo events, e.g. a message broker. Delivery is at-least-once: a batch
+ * is redelivered if the relay fails after {@link #publish} returns, so consumers must tolerate
+ * duplicates.
+ */
+public interface OutboxSink {
+
+    /**
+     * Publishes the batch or throws; a thrown exception leaves the batch in the outbox for retry.
+     */
+    void publish(List<OutboxMessage> batch);
+}
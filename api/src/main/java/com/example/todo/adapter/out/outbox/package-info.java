@@ -0,0 +1,4 @@
+@NonNullApi
+package com.example.todo.adapter.out.outbox;
+
+import org.springframework.lang.NonNullApi;
@@ -3,14 +3,18 @@ package com.example.todo.adapter.out.persistence;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.util.UUID;
+import org.springframework.data.domain.Persistable;
 
 @Entity
 @Table(name = "todos")
-class TodoJpaEntity {
+class TodoJpaEntity implements Persistable<UUID> {
 
     @Id
     @Column(name = "id", nullable = false, updatable = false)
@@ -34,6 +38,10 @@ class TodoJpaEntity {
     @Column(name = "updated_at", nullable = false)
     private Instant updatedAt;
 
+    // Ids are assigned by the domain, so Spring Data cannot infer newness from a null id.
+    @Transient
+    private boolean isNew;
+
     protected TodoJpaEntity() {
         // for JPA
     }
@@ -48,6 +56,27 @@ class TodoJpaEntity {
         this.updatedAt = updatedAt;
     }
 
+    /**
+     * Marks an entity built from a freshly created aggregate, so {@code save} persists it with a
+     * single INSERT instead of merging (which would SELECT the row first).
+     */
+    TodoJpaEntity markNew() {
+        this.isNew = true;
+        return this;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostPersist
+    @PostLoad
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    @Override
     public UUID getId() {
         return id;
     }
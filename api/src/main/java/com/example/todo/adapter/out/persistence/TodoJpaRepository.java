@@ -1,17 +1,37 @@
 package com.example.todo.adapter.out.persistence;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 interface TodoJpaRepository extends JpaRepository<TodoJpaEntity, UUID> {
 
-    List<TodoJpaEntity> findAllByUserIdOrderByCreatedAtDesc(String userId);
+    List<TodoJpaEntity> findAllByUserIdAndUpdatedAtAfterOrderByUpdatedAtAscIdAsc(String userId, Instant since, Limit limit);
 
-    List<TodoJpaEntity> findAllByUserIdAndDoneOrderByCreatedAtDesc(String userId, boolean done);
+    @Query("select count(t) as count, max(t.updatedAt) as lastUpdatedAt from TodoJpaEntity t where t.userId = :userId")
+    ListVersion findListVersion(@Param("userId") String userId);
 
     Optional<TodoJpaEntity> findByIdAndUserId(UUID id, String userId);
 
+    List<TodoJpaEntity> findAllByUserIdAndIdIn(String userId, Collection<UUID> ids);
+
     long deleteByIdAndUserId(UUID id, String userId);
+
+    @Modifying
+    @Query("delete from TodoJpaEntity t where t.userId = :userId and t.id in :ids")
+    int deleteAllByUserIdAndIdIn(@Param("userId") String userId, @Param("ids") Collection<UUID> ids);
+
+    interface ListVersion {
+
+        long getCount();
+
+        Optional<Instant> getLastUpdatedAt();
+    }
 }
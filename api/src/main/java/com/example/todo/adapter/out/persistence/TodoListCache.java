@@ -0,0 +1,178 @@
+package com.example.todo.adapter.out.persistence;
+
+import com.example.todo.application.query.TodoQuery;
+import com.example.todo.application.result.TodoListVersion;
+import com.example.todo.application.result.TodoResult;
+import com.example.todo.domain.model.UserId;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Read-through cache of list query results, grouped per user so a write drops all of that
+ * user's pages in one step. Bounded by the total number of cached todos and by age.
+ *
+ * <p>Each user's bucket carries an epoch that every invalidation bumps. A reader only stores its
+ * result if the epoch it saw before querying is still current, so a load that raced a write can
+ * never repopulate the cache with pre-write rows.
+ *
+ * <p>The epoch only sees writes made through this instance, and only once they reach the adapter.
+ * Each page therefore also records the {@link TodoListVersion} the caller read before loading it,
+ * and is served only to a caller holding that same version. A write on another instance, or one
+ * committing after a reader stored its pre-commit rows, changes the version and so bypasses the
+ * page; the version a response is tagged with always matches the rows it carries or predates them.
+ */
+@Component
+class TodoListCache implements MeterBinder {
+
+    static final String CACHE_NAME = "todo-list";
+
+    private final Cache<UserId, Bucket> buckets;
+    private final boolean enabled;
+    private final long ttlNanos;
+    private final Ticker ticker;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    @Autowired
+    TodoListCache(@Value("${todo.list-cache.enabled:true}") boolean enabled,
+                  @Value("${todo.list-cache.max-todos:200000}") long maxTodos,
+                  @Value("${todo.list-cache.ttl:60s}") Duration ttl) {
+        this(enabled, maxTodos, ttl, Ticker.systemTicker());
+    }
+
+    TodoListCache(boolean enabled, long maxTodos, Duration ttl, Ticker ticker) {
+        this.enabled = enabled;
+        this.ttlNanos = ttl.toNanos();
+        this.ticker = ticker;
+        this.buckets = Caffeine.newBuilder()
+            .maximumWeight(maxTodos)
+            .weigher((UserId userId, Bucket bucket) -> bucket.weight())
+            .expireAfterWrite(ttl)
+            .ticker(ticker)
+            .recordStats()
+            .build();
+    }
+
+    List<TodoResult> get(UserId userId, TodoQuery query, int limit, TodoListVersion version,
+                         Supplier<List<TodoResult>> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        Key key = new Key(query, limit);
+        // asMap() reads bypass Caffeine's own hit/miss accounting, which would count a bucket hit
+        // even when the requested page is absent; hits and misses are tracked per page instead.
+        Bucket seen = buckets.asMap().get(userId);
+        long now = ticker.read();
+        if (seen != null) {
+            Optional<List<TodoResult>> cached = seen.lookup(key, version, now, ttlNanos);
+            if (cached.isPresent()) {
+                hits.increment();
+                return cached.get();
+            }
+        }
+        misses.increment();
+        List<TodoResult> loaded = List.copyOf(loader.get());
+        Long seenEpoch = seen == null ? null : seen.epoch();
+        buckets.asMap().compute(userId, (id, current) -> {
+            Long currentEpoch = current == null ? null : current.epoch();
+            if (!Objects.equals(seenEpoch, currentEpoch)) {
+                return current;
+            }
+            return (current == null ? Bucket.empty(0) : current).with(key, loaded, version, now);
+        });
+        return loaded;
+    }
+
+    /**
+     * Drops every cached page for the user now and, when called inside a transaction, again once
+     * it completes so that reads issued before the commit cannot leave stale pages behind.
+     */
+    void invalidate(UserId userId) {
+        if (!enabled) {
+            return;
+        }
+        bump(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    bump(userId);
+                }
+            });
+        }
+    }
+
+    private void bump(UserId userId) {
+        buckets.asMap().compute(userId, (id, current) -> Bucket.empty(current == null ? 0 : current.epoch() + 1));
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("cache.gets", hits, LongAdder::sum)
+            .tag("cache", CACHE_NAME).tag("result", "hit")
+            .description("List pages served from the cache")
+            .register(registry);
+        FunctionCounter.builder("cache.gets", misses, LongAdder::sum)
+            .tag("cache", CACHE_NAME).tag("result", "miss")
+            .description("List pages loaded from the database")
+            .register(registry);
+        FunctionCounter.builder("cache.evictions", buckets, cache -> cache.stats().evictionCount())
+            .tag("cache", CACHE_NAME)
+            .description("User buckets evicted by size or age")
+            .register(registry);
+        Gauge.builder("cache.size", buckets, Cache::estimatedSize)
+            .tag("cache", CACHE_NAME)
+            .description("Users with cached pages")
+            .register(registry);
+        Gauge.builder("cache.weight", buckets, cache -> cache.policy().eviction().map(e -> e.weightedSize().orElse(0)).orElse(0L))
+            .tag("cache", CACHE_NAME)
+            .description("Todos held across all cached pages")
+            .register(registry);
+    }
+
+    private record Key(TodoQuery query, int limit) {
+    }
+
+    private record Page(List<TodoResult> todos, TodoListVersion version, long loadedAt) {
+    }
+
+    private record Bucket(long epoch, Map<Key, Page> pages, int weight) {
+
+        static Bucket empty(long epoch) {
+            return new Bucket(epoch, Map.of(), 1);
+        }
+
+        Optional<List<TodoResult>> lookup(Key key, TodoListVersion version, long now, long ttlNanos) {
+            Page page = pages.get(key);
+            if (page == null || !page.version().equals(version) || now - page.loadedAt() > ttlNanos) {
+                return Optional.empty();
+            }
+            return Optional.of(page.todos());
+        }
+
+        Bucket with(Key key, List<TodoResult> todos, TodoListVersion version, long now) {
+            Map<Key, Page> copy = new HashMap<>(pages);
+            Page previous = copy.put(key, new Page(todos, version, now));
+            int delta = todos.size() - (previous == null ? 0 : previous.todos().size());
+            return new Bucket(epoch, Map.copyOf(copy), weight + delta);
+        }
+    }
+}
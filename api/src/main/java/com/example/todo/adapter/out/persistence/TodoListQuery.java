@@ -0,0 +1,145 @@
+package com.example.todo.adapter.out.persistence;
+
+import com.example.todo.application.query.TitleSearch;
+import com.example.todo.application.query.TodoCursor;
+import com.example.todo.application.query.TodoQuery;
+import com.example.todo.application.result.TodoResult;
+import com.example.todo.domain.model.UserId;
+import jakarta.persistence.EntityManager;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+import org.hibernate.Session;
+import org.hibernate.query.Query;
+import org.springframework.stereotype.Component;
+
+/**
+ * Compiles a {@link TodoQuery} into a single parameterized JPQL statement. Status, due date range
+ * and title search become predicates; the sort becomes an ORDER BY ending in the id, and the
+ * cursor a keyset predicate on the same key, so every shape pages without OFFSET. The indexes in
+ * V2, V5 and V6 carry these keys after {@code user_id}.
+ *
+ * <p>Rows are selected as plain columns and turned straight into {@link TodoResult}s, so a list
+ * read never creates entities: nothing enters the persistence context, nothing is snapshotted for
+ * dirty checking, and no domain aggregate is built only to be flattened again.
+ */
+@Component
+class TodoListQuery {
+
+    // Mirrors TitleSearch#rank.
+    private static final String RANK = "case when lower(t.title) = :term then " + TitleSearch.EXACT
+        + " when lower(t.title) like :prefix escape '\\' then " + TitleSearch.PREFIX
+        + " when lower(t.title) like :wordPrefix escape '\\' then " + TitleSearch.WORD_PREFIX
+        + " else " + TitleSearch.SUBSTRING + " end";
+
+    /** Rows the JDBC driver buffers per round trip while streaming. */
+    static final int STREAM_FETCH_SIZE = 500;
+
+    private final EntityManager entityManager;
+
+    TodoListQuery(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    List<TodoResult> load(UserId userId, TodoQuery query, int limit) {
+        return compile(userId, query).setMaxResults(limit).getResultList();
+    }
+
+    /**
+     * Every matching row in order, read through a database cursor {@link #STREAM_FETCH_SIZE}
+     * rows at a time; {@link TodoQuery#limit()} is ignored. Must be consumed and closed inside
+     * the transaction that opened it.
+     */
+    Stream<TodoResult> stream(UserId userId, TodoQuery query) {
+        return compile(userId, query).setFetchSize(STREAM_FETCH_SIZE).getResultStream();
+    }
+
+    private Query<TodoResult> compile(UserId userId, TodoQuery query) {
+        List<String> where = new ArrayList<>();
+        Map<String, Object> params = new LinkedHashMap<>();
+        where.add("t.userId = :userId");
+        params.put("userId", userId.value());
+
+        switch (query.filter()) {
+            case ALL -> { }
+            case ACTIVE -> where.add("t.done = false");
+            case DONE -> where.add("t.done = true");
+            case OVERDUE -> throw new IllegalArgumentException("Overdue filter must be resolved before loading");
+        }
+        query.due().from().ifPresent(from -> {
+            where.add("t.dueDate >= :dueFrom");
+            params.put("dueFrom", from);
+        });
+        query.due().to().ifPresent(to -> {
+            where.add("t.dueDate <= :dueTo");
+            params.put("dueTo", to);
+        });
+        query.search().ifPresent(search -> {
+            String term = escapeLike(search.term());
+            where.add("lower(t.title) like :contains escape '\\'");
+            params.put("contains", "%" + term + "%");
+            params.put("term", search.term());
+            params.put("prefix", term + "%");
+            params.put("wordPrefix", "% " + term + "%");
+        });
+        query.after().ifPresent(cursor -> where.add(after(query, cursor, params)));
+
+        String orderBy = switch (query.sort()) {
+            case CREATED -> "t.createdAt desc, t.id desc";
+            case UPDATED -> "t.updatedAt desc, t.id desc";
+            case DUE_DATE -> "t.dueDate asc nulls last, t.id asc";
+        };
+        if (query.search().isPresent()) {
+            orderBy = RANK + ", " + orderBy;
+        }
+
+        String hql = "select t.id, t.title, t.dueDate, t.done, t.createdAt, t.updatedAt from TodoJpaEntity t where "
+            + String.join(" and ", where) + " order by " + orderBy;
+        Query<TodoResult> typed = entityManager.unwrap(Session.class)
+            .createQuery(hql, Object[].class)
+            .setTupleTransformer(TodoListQuery::toResult);
+        params.forEach(typed::setParameter);
+        return typed;
+    }
+
+    private static TodoResult toResult(Object[] row, String[] aliases) {
+        return new TodoResult((UUID) row[0], (String) row[1], Optional.ofNullable((LocalDate) row[2]),
+            (Boolean) row[3], (Instant) row[4], (Instant) row[5]);
+    }
+
+    private static String after(TodoQuery query, TodoCursor cursor, Map<String, Object> params) {
+        params.put("afterId", cursor.id());
+        String keyset = switch (query.sort()) {
+            case CREATED -> {
+                params.put("afterCreatedAt", cursor.createdAt());
+                yield "(t.createdAt, t.id) < (:afterCreatedAt, :afterId)";
+            }
+            case UPDATED -> {
+                params.put("afterUpdatedAt", cursor.updatedAt());
+                yield "(t.updatedAt, t.id) < (:afterUpdatedAt, :afterId)";
+            }
+            case DUE_DATE -> {
+                if (cursor.dueDate().isEmpty()) {
+                    yield "(t.dueDate is null and t.id > :afterId)";
+                }
+                params.put("afterDueDate", cursor.dueDate().get());
+                yield "((t.dueDate, t.id) > (:afterDueDate, :afterId) or t.dueDate is null)";
+            }
+        };
+        if (query.search().isEmpty()) {
+            return keyset;
+        }
+        params.put("afterRank", cursor.rank().orElseThrow());
+        return "(" + RANK + " > :afterRank or (" + RANK + " = :afterRank and " + keyset + "))";
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
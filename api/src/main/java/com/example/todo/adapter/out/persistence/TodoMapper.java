@@ -5,6 +5,8 @@ import com.example.todo.domain.model.Title;
 import com.example.todo.domain.model.Todo;
 import com.example.todo.domain.model.TodoId;
 import com.example.todo.domain.model.UserId;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.Optional;
 import org.springframework.stereotype.Component;
 
@@ -18,8 +20,8 @@ class TodoMapper {
             todo.title().value(),
             todo.dueDate().value().orElse(null),
             todo.done(),
-            todo.createdAt(),
-            todo.updatedAt()
+            truncate(todo.createdAt()),
+            truncate(todo.updatedAt())
         );
     }
 
@@ -34,4 +36,12 @@ class TodoMapper {
             entity.getUpdatedAt()
         );
     }
+
+    /**
+     * Matches the microsecond precision of the timestamp columns so that keyset cursors built
+     * from an entity still held in the persistence context compare equal to the stored row.
+     */
+    private static Instant truncate(Instant instant) {
+        return instant.truncatedTo(ChronoUnit.MICROS);
+    }
 }
@@ -0,0 +1,73 @@
+package com.example.todo.adapter.out.persistence;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import java.util.UUID;
+
+@Entity
+@Table(name = "todo_outbox")
+class TodoOutboxJpaEntity {
+
+    // A pooled sequence rather than IDENTITY keeps batch writes eligible for JDBC batching.
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "todo_outbox_seq")
+    @SequenceGenerator(name = "todo_outbox_seq", sequenceName = "todo_outbox_seq", allocationSize = 50)
+    @Column(name = "id", nullable = false, updatable = false)
+    private Long id;
+
+    @Column(name = "event_type", nullable = false, length = 32)
+    private String eventType;
+
+    @Column(name = "todo_id", nullable = false)
+    private UUID todoId;
+
+    @Column(name = "user_id", nullable = false)
+    private String userId;
+
+    @Column(name = "occurred_at", nullable = false)
+    private Instant occurredAt;
+
+    @Column(name = "payload", nullable = false, length = 2000)
+    private String payload;
+
+    protected TodoOutboxJpaEntity() {
+    }
+
+    TodoOutboxJpaEntity(String eventType, UUID todoId, String userId, Instant occurredAt, String payload) {
+        this.eventType = eventType;
+        this.todoId = todoId;
+        this.userId = userId;
+        this.occurredAt = occurredAt;
+        this.payload = payload;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getEventType() {
+        return eventType;
+    }
+
+    public UUID getTodoId() {
+        return todoId;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public Instant getOccurredAt() {
+        return occurredAt;
+    }
+
+    public String getPayload() {
+        return payload;
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.todo.adapter.out.persistence;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.util.List;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.QueryHints;
+
+interface TodoOutboxJpaRepository extends JpaRepository<TodoOutboxJpaEntity, Long> {
+
+    /**
+     * Oldest entries first, locked with {@code SKIP LOCKED} so several relay instances can drain
+     * the outbox concurrently without handing out the same rows.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    List<TodoOutboxJpaEntity> findAllByOrderByIdAsc(Limit limit);
+}
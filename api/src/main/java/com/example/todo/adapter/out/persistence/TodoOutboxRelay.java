@@ -0,0 +1,118 @@
+package com.example.todo.adapter.out.persistence;
+
+import com.example.todo.adapter.out.outbox.OutboxMessage;
+import com.example.todo.adapter.out.outbox.OutboxSink;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Drains the outbox on a background thread: each batch is read, handed to the {@link OutboxSink}
+ * and deleted in one transaction. A full batch is followed immediately by the next one; otherwise
+ * the relay sleeps for the poll interval. Sink failures roll the batch back for a later retry.
+ */
+@Component
+class TodoOutboxRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(TodoOutboxRelay.class);
+
+    private final TodoOutboxJpaRepository repository;
+    private final OutboxSink sink;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+    private final Duration pollInterval;
+    private final Counter relayed;
+    private final Counter failures;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "todo-outbox-relay");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    TodoOutboxRelay(TodoOutboxJpaRepository repository,
+                    OutboxSink sink,
+                    PlatformTransactionManager transactionManager,
+                    MeterRegistry meterRegistry,
+                    @Value("${todo.outbox.relay.enabled:true}") boolean enabled,
+                    @Value("${todo.outbox.relay.batch-size:100}") int batchSize,
+                    @Value("${todo.outbox.relay.poll-interval:1s}") Duration pollInterval) {
+        this.repository = repository;
+        this.sink = sink;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.pollInterval = pollInterval;
+        this.relayed = Counter.builder("todo.outbox.relayed")
+            .description("Outbox events handed to the sink")
+            .register(meterRegistry);
+        this.failures = Counter.builder("todo.outbox.failures")
+            .description("Outbox batches rolled back after a sink or database error")
+            .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void start() {
+        if (enabled) {
+            scheduler.schedule(this::run, 0, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void run() {
+        Duration delay = pollInterval;
+        try {
+            if (relayOnce() == batchSize) {
+                delay = Duration.ZERO;
+            }
+        } catch (RuntimeException ex) {
+            failures.increment();
+            log.warn("Outbox relay failed; retrying in {}", pollInterval, ex);
+        }
+        if (!scheduler.isShutdown()) {
+            scheduler.schedule(this::run, delay.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Relays one batch and returns how many events it contained.
+     */
+    int relayOnce() {
+        Integer count = transactionTemplate.execute(status -> {
+            List<TodoOutboxJpaEntity> batch = repository.findAllByOrderByIdAsc(Limit.of(batchSize));
+            if (batch.isEmpty()) {
+                return 0;
+            }
+            List<OutboxMessage> messages = new ArrayList<>(batch.size());
+            for (TodoOutboxJpaEntity entry : batch) {
+                messages.add(new OutboxMessage(entry.getId(), entry.getEventType(), entry.getTodoId(),
+                    entry.getUserId(), entry.getOccurredAt(), entry.getPayload()));
+            }
+            sink.publish(messages);
+            repository.deleteAllInBatch(batch);
+            return batch.size();
+        });
+        int relayedCount = count == null ? 0 : count;
+        relayed.increment(relayedCount);
+        return relayedCount;
+    }
+
+    @PreDestroy
+    void close() {
+        scheduler.shutdownNow();
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.todo.adapter.out.persistence;
+
+import com.example.todo.domain.event.TodoCreated;
+import com.example.todo.domain.event.TodoDeleted;
+import com.example.todo.domain.event.TodoEvent;
+import com.example.todo.domain.event.TodoUpdated;
+import com.example.todo.domain.model.Todo;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Records every todo event in the outbox table inside the transaction that produced it, so the
+ * outbox holds an event if and only if the todo write committed.
+ */
+@Component
+class TodoOutboxWriter {
+
+    private final TodoOutboxJpaRepository repository;
+    private final ObjectMapper objectMapper;
+
+    TodoOutboxWriter(TodoOutboxJpaRepository repository, ObjectMapper objectMapper) {
+        this.repository = repository;
+        this.objectMapper = objectMapper;
+    }
+
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    void on(TodoEvent event) {
+        String type = event.getClass().getSimpleName();
+        Payload payload = new Payload(type, event.todoId().value(), event.userId().value(), event.occurredAt(), snapshot(event));
+        repository.save(new TodoOutboxJpaEntity(type, event.todoId().value(), event.userId().value(), event.occurredAt(), toJson(payload)));
+    }
+
+    private static State snapshot(TodoEvent event) {
+        return switch (event) {
+            case TodoCreated created -> State.of(created.todo());
+            case TodoUpdated updated -> State.of(updated.todo());
+            case TodoDeleted deleted -> null;
+        };
+    }
+
+    private String toJson(Payload payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Failed to serialize outbox payload", ex);
+        }
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private record Payload(String type, UUID todoId, String userId, Instant occurredAt, State todo) {
+    }
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private record State(String title, LocalDate dueDate, boolean done, Instant createdAt, Instant updatedAt) {
+
+        static State of(Todo todo) {
+            return new State(todo.title().value(), todo.dueDate().value().orElse(null), todo.done(), todo.createdAt(), todo.updatedAt());
+        }
+    }
+}
@@ -1,43 +1,149 @@
 package com.example.todo.adapter.out.persistence;
 
 import com.example.todo.application.port.out.DeleteTodoPort;
+import com.example.todo.application.port.out.ImportTodosPort;
+import com.example.todo.application.port.out.InsertTodoPort;
+import com.example.todo.application.port.out.LoadTodoChangesPort;
+import com.example.todo.application.port.out.LoadTodoListVersionPort;
 import com.example.todo.application.port.out.LoadTodoPort;
 import com.example.todo.application.port.out.LoadTodosPort;
 import com.example.todo.application.port.out.SaveTodoPort;
+import com.example.todo.application.port.out.StreamTodosPort;
+import com.example.todo.application.port.out.UpdateTodoPort;
+import com.example.todo.application.query.SyncToken;
 import com.example.todo.application.query.TodoQuery;
+import com.example.todo.application.result.TodoListVersion;
+import com.example.todo.application.result.TodoResult;
 import com.example.todo.common.TodoNotFoundException;
 import com.example.todo.domain.model.Todo;
+import com.example.todo.domain.model.TodoChanges;
 import com.example.todo.domain.model.TodoId;
 import com.example.todo.domain.model.UserId;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Component;
 
 @Component
-class TodoPersistenceAdapter implements SaveTodoPort, LoadTodoPort, DeleteTodoPort, LoadTodosPort {
+class TodoPersistenceAdapter implements InsertTodoPort, SaveTodoPort, LoadTodoPort, UpdateTodoPort, DeleteTodoPort, LoadTodosPort,
+    LoadTodoListVersionPort, LoadTodoChangesPort, StreamTodosPort, ImportTodosPort {
 
     private final TodoJpaRepository repository;
     private final TodoMapper mapper;
+    private final TodoListCache listCache;
+    private final TodoUpdateStatement updateStatement;
+    private final TodoTombstoneJpaRepository tombstoneRepository;
+    private final TodoWriteBehindBuffer writeBehind;
+    private final TodoListQuery listQuery;
+    private final TodoBulkInsert bulkInsert;
 
-    TodoPersistenceAdapter(TodoJpaRepository repository, TodoMapper mapper) {
+    TodoPersistenceAdapter(TodoJpaRepository repository,
+                           TodoMapper mapper,
+                           TodoListCache listCache,
+                           TodoUpdateStatement updateStatement,
+                           TodoTombstoneJpaRepository tombstoneRepository,
+                           TodoWriteBehindBuffer writeBehind,
+                           TodoListQuery listQuery,
+                           TodoBulkInsert bulkInsert) {
         this.repository = repository;
         this.mapper = mapper;
+        this.listCache = listCache;
+        this.updateStatement = updateStatement;
+        this.tombstoneRepository = tombstoneRepository;
+        this.writeBehind = writeBehind;
+        this.listQuery = listQuery;
+        this.bulkInsert = bulkInsert;
+    }
+
+    @Override
+    public Todo insert(Todo todo) {
+        listCache.invalidate(todo.userId());
+        TodoJpaEntity saved = repository.save(mapper.toEntity(todo).markNew());
+        return mapper.toDomain(saved);
+    }
+
+    @Override
+    public List<Todo> insertAll(List<Todo> todos) {
+        List<TodoJpaEntity> entities = new ArrayList<>(todos.size());
+        for (Todo todo : todos) {
+            listCache.invalidate(todo.userId());
+            entities.add(mapper.toEntity(todo).markNew());
+        }
+        return persistAll(entities);
     }
 
     @Override
     public Todo save(Todo todo) {
+        listCache.invalidate(todo.userId());
         TodoJpaEntity saved = repository.save(mapper.toEntity(todo));
         return mapper.toDomain(saved);
     }
 
+    @Override
+    public List<Todo> saveAll(List<Todo> todos) {
+        List<TodoJpaEntity> entities = new ArrayList<>(todos.size());
+        for (Todo todo : todos) {
+            listCache.invalidate(todo.userId());
+            entities.add(mapper.toEntity(todo));
+        }
+        return persistAll(entities);
+    }
+
+    @Override
+    public void importAll(UserId userId, List<Todo> todos) {
+        listCache.invalidate(userId);
+        bulkInsert.execute(todos);
+    }
+
+    private List<Todo> persistAll(List<TodoJpaEntity> entities) {
+        List<Todo> saved = new ArrayList<>(entities.size());
+        for (TodoJpaEntity entity : repository.saveAll(entities)) {
+            saved.add(mapper.toDomain(entity));
+        }
+        return saved;
+    }
+
     @Override
     public Optional<Todo> loadByIdAndUser(TodoId todoId, UserId userId) {
+        writeBehind.flush(todoId);
         return repository.findByIdAndUserId(todoId.value(), userId.value()).map(mapper::toDomain);
     }
 
     @Override
-    public void deleteByIdAndUser(TodoId todoId, UserId userId) {
+    public List<Todo> loadAllByIdsAndUser(Collection<TodoId> todoIds, UserId userId) {
+        writeBehind.flush(userId);
+        List<TodoJpaEntity> entities = repository.findAllByUserIdAndIdIn(userId.value(), ids(todoIds));
+        List<Todo> todos = new ArrayList<>(entities.size());
+        for (TodoJpaEntity entity : entities) {
+            todos.add(mapper.toDomain(entity));
+        }
+        return todos;
+    }
+
+    @Override
+    public Optional<Outcome> update(TodoId todoId, UserId userId, TodoChanges changes, Instant now) {
+        if (writeBehind.accepts(changes)) {
+            return writeBehind.merge(todoId, userId,
+                () -> repository.findByIdAndUserId(todoId.value(), userId.value()).map(mapper::toDomain), changes, now);
+        }
+        // Buffered edits go first so this update is applied on top of them, not overwritten.
+        writeBehind.flush(todoId);
+        listCache.invalidate(userId);
+        return updateStatement.execute(todoId, userId, changes, now)
+            .map(row -> new Outcome(mapper.toDomain(row), TodoUpdateStatement.changed(row, now), false));
+    }
+
+    @Override
+    public void deleteByIdAndUser(TodoId todoId, UserId userId, Instant deletedAt) {
+        writeBehind.discard(List.of(todoId));
+        listCache.invalidate(userId);
+        recordTombstones(userId, List.of(todoId.value()), deletedAt);
         long removed = repository.deleteByIdAndUserId(todoId.value(), userId.value());
         if (removed == 0) {
             throw new TodoNotFoundException("Todo not found");
@@ -45,15 +151,69 @@ class TodoPersistenceAdapter implements SaveTodoPort, LoadTodoPort, DeleteTodoPo
     }
 
     @Override
-    public List<Todo> loadTodos(UserId userId, TodoQuery.Filter filter) {
-        List<TodoJpaEntity> entities;
-        if (filter == TodoQuery.Filter.DONE) {
-            entities = repository.findAllByUserIdAndDoneOrderByCreatedAtDesc(userId.value(), true);
-        } else if (filter == TodoQuery.Filter.ACTIVE) {
-            entities = repository.findAllByUserIdAndDoneOrderByCreatedAtDesc(userId.value(), false);
-        } else {
-            entities = repository.findAllByUserIdOrderByCreatedAtDesc(userId.value());
+    public long deleteAllByIdsAndUser(Collection<TodoId> todoIds, UserId userId, Instant deletedAt) {
+        writeBehind.discard(todoIds);
+        listCache.invalidate(userId);
+        List<UUID> ids = ids(todoIds);
+        recordTombstones(userId, ids, deletedAt);
+        return repository.deleteAllByUserIdAndIdIn(userId.value(), ids);
+    }
+
+    // Expired tombstones are pruned per user on their next delete, which keeps the table bounded
+    // without a background job.
+    private void recordTombstones(UserId userId, Collection<UUID> ids, Instant deletedAt) {
+        tombstoneRepository.deleteExpired(userId.value(), deletedAt.minus(SyncToken.RETENTION));
+        tombstoneRepository.insertForTodos(userId.value(), ids, deletedAt);
+    }
+
+    @Override
+    public List<Todo> loadUpdatedSince(UserId userId, Instant since, int limit) {
+        writeBehind.flush(userId);
+        List<TodoJpaEntity> entities = repository.findAllByUserIdAndUpdatedAtAfterOrderByUpdatedAtAscIdAsc(
+            userId.value(), since, Limit.of(limit));
+        List<Todo> todos = new ArrayList<>(entities.size());
+        for (TodoJpaEntity entity : entities) {
+            todos.add(mapper.toDomain(entity));
+        }
+        return todos;
+    }
+
+    @Override
+    public List<TodoId> loadDeletedSince(UserId userId, Instant since, int limit) {
+        List<UUID> ids = tombstoneRepository.findTodoIdsDeletedAfter(userId.value(), since, Limit.of(limit));
+        List<TodoId> todoIds = new ArrayList<>(ids.size());
+        for (UUID id : ids) {
+            todoIds.add(TodoId.from(id));
+        }
+        return todoIds;
+    }
+
+    @Override
+    public List<TodoResult> loadTodos(UserId userId, TodoQuery query, int limit, TodoListVersion version) {
+        writeBehind.flush(userId);
+        return listCache.get(userId, query, limit, version, () -> listQuery.load(userId, query, limit));
+    }
+
+    @Override
+    public void streamTodos(UserId userId, TodoQuery query, Consumer<TodoResult> action) {
+        writeBehind.flush(userId);
+        try (Stream<TodoResult> rows = listQuery.stream(userId, query)) {
+            rows.forEach(action);
+        }
+    }
+
+    @Override
+    public TodoListVersion loadListVersion(UserId userId) {
+        writeBehind.flush(userId);
+        TodoJpaRepository.ListVersion version = repository.findListVersion(userId.value());
+        return new TodoListVersion(version.getCount(), version.getLastUpdatedAt());
+    }
+
+    private static List<UUID> ids(Collection<TodoId> todoIds) {
+        List<UUID> ids = new ArrayList<>(todoIds.size());
+        for (TodoId todoId : todoIds) {
+            ids.add(todoId.value());
         }
-        return entities.stream().map(mapper::toDomain).collect(Collectors.toList());
+        return ids;
     }
 }
@@ -0,0 +1,42 @@
+package com.example.todo.adapter.out.persistence;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Record of a hard-deleted todo, kept for {@link com.example.todo.application.query.SyncToken#RETENTION}
+ * so delta sync can report the deletion.
+ */
+@Entity
+@Table(name = "todo_tombstones")
+class TodoTombstoneJpaEntity {
+
+    @Id
+    @Column(name = "todo_id", nullable = false, updatable = false)
+    private UUID todoId;
+
+    @Column(name = "user_id", nullable = false)
+    private String userId;
+
+    @Column(name = "deleted_at", nullable = false)
+    private Instant deletedAt;
+
+    protected TodoTombstoneJpaEntity() {
+    }
+
+    public UUID getTodoId() {
+        return todoId;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public Instant getDeletedAt() {
+        return deletedAt;
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.todo.adapter.out.persistence;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+interface TodoTombstoneJpaRepository extends JpaRepository<TodoTombstoneJpaEntity, UUID> {
+
+    /**
+     * Records tombstones for whichever of the ids the user owns; must run before the rows are deleted.
+     */
+    @Modifying
+    @Query("""
+        insert into TodoTombstoneJpaEntity (todoId, userId, deletedAt)
+        select t.id, t.userId, :deletedAt from TodoJpaEntity t
+        where t.userId = :userId and t.id in :ids
+        """)
+    int insertForTodos(@Param("userId") String userId,
+                       @Param("ids") Collection<UUID> ids,
+                       @Param("deletedAt") Instant deletedAt);
+
+    @Query("""
+        select t.todoId from TodoTombstoneJpaEntity t
+        where t.userId = :userId and t.deletedAt > :since
+        order by t.deletedAt
+        """)
+    List<UUID> findTodoIdsDeletedAfter(@Param("userId") String userId, @Param("since") Instant since, Limit limit);
+
+    @Modifying
+    @Query("delete from TodoTombstoneJpaEntity t where t.userId = :userId and t.deletedAt < :cutoff")
+    int deleteExpired(@Param("userId") String userId, @Param("cutoff") Instant cutoff);
+}
@@ -0,0 +1,124 @@
+package com.example.todo.adapter.out.persistence;
+
+import com.example.todo.domain.model.TodoChanges;
+import com.example.todo.domain.model.TodoId;
+import com.example.todo.domain.model.UserId;
+import jakarta.persistence.EntityManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Issues a partial update as one conditional {@code UPDATE}, so a PATCH costs a single statement
+ * instead of SELECT + merge. On PostgreSQL the new row comes back via {@code RETURNING}; other
+ * databases (H2 in tests) fall back to a follow-up SELECT.
+ *
+ * <p>Runs beside the JPA persistence context: pending JPA changes are flushed first, but an entity
+ * loaded earlier in the same transaction will not reflect this update.
+ */
+@Component
+class TodoUpdateStatement {
+
+    private static final String COLUMNS = "id, user_id, title, due_date, done, created_at, updated_at";
+    private static final RowMapper<TodoJpaEntity> ROW_MAPPER = TodoUpdateStatement::mapRow;
+
+    private final NamedParameterJdbcTemplate jdbc;
+    private final EntityManager entityManager;
+    private volatile Boolean supportsReturning;
+
+    TodoUpdateStatement(NamedParameterJdbcTemplate jdbc, EntityManager entityManager) {
+        this.jdbc = jdbc;
+        this.entityManager = entityManager;
+    }
+
+    Optional<TodoJpaEntity> execute(TodoId todoId, UserId userId, TodoChanges changes, Instant now) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+            .addValue("id", todoId.value())
+            .addValue("userId", userId.value(), Types.VARCHAR)
+            .addValue("now", now.truncatedTo(ChronoUnit.MICROS).atOffset(ZoneOffset.UTC), Types.TIMESTAMP_WITH_TIMEZONE);
+        List<String> assignments = new ArrayList<>(4);
+        List<String> differs = new ArrayList<>(3);
+        changes.title().ifPresent(title -> {
+            params.addValue("title", title.value(), Types.VARCHAR);
+            assignments.add("title = :title");
+            differs.add("title IS DISTINCT FROM :title");
+        });
+        changes.dueDate().ifPresent(dueDate -> {
+            params.addValue("dueDate", dueDate.value().orElse(null), Types.DATE);
+            assignments.add("due_date = :dueDate");
+            differs.add("due_date IS DISTINCT FROM :dueDate");
+        });
+        changes.done().ifPresent(done -> {
+            params.addValue("done", done, Types.BOOLEAN);
+            assignments.add("done = :done");
+            differs.add("done IS DISTINCT FROM :done");
+        });
+        if (entityManager.isJoinedToTransaction()) {
+            entityManager.flush();
+        }
+        if (assignments.isEmpty()) {
+            return select(params);
+        }
+        // SET expressions see the old row, so updated_at only moves when a value really changes.
+        assignments.add("updated_at = CASE WHEN " + String.join(" OR ", differs) + " THEN :now ELSE updated_at END");
+        String update = "UPDATE todos SET " + String.join(", ", assignments) + " WHERE id = :id AND user_id = :userId";
+
+        if (supportsReturning()) {
+            return jdbc.query(update + " RETURNING " + COLUMNS, params, ROW_MAPPER).stream().findFirst();
+        }
+        if (jdbc.update(update, params) == 0) {
+            return Optional.empty();
+        }
+        return select(params);
+    }
+
+    /**
+     * Whether {@link #execute} changed a value of {@code row}: only then does its
+     * {@code updated_at} carry the statement's {@code now}.
+     */
+    static boolean changed(TodoJpaEntity row, Instant now) {
+        return row.getUpdatedAt().equals(now.truncatedTo(ChronoUnit.MICROS));
+    }
+
+    private Optional<TodoJpaEntity> select(MapSqlParameterSource params) {
+        return jdbc.query("SELECT " + COLUMNS + " FROM todos WHERE id = :id AND user_id = :userId", params, ROW_MAPPER)
+            .stream()
+            .findFirst();
+    }
+
+    private boolean supportsReturning() {
+        Boolean cached = supportsReturning;
+        if (cached == null) {
+            cached = jdbc.getJdbcTemplate().execute((ConnectionCallback<Boolean>) connection ->
+                "PostgreSQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName()));
+            supportsReturning = cached;
+        }
+        return cached;
+    }
+
+    private static TodoJpaEntity mapRow(ResultSet rs, int rowNum) throws SQLException {
+        return new TodoJpaEntity(
+            rs.getObject("id", UUID.class),
+            rs.getString("user_id"),
+            rs.getString("title"),
+            rs.getObject("due_date", LocalDate.class),
+            rs.getBoolean("done"),
+            rs.getObject("created_at", OffsetDateTime.class).toInstant(),
+            rs.getObject("updated_at", OffsetDateTime.class).toInstant()
+        );
+    }
+}
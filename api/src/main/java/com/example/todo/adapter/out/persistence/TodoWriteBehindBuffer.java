@@ -0,0 +1,364 @@
+package com.example.todo.adapter.out.persistence;
+
+import com.example.todo.application.port.out.UpdateTodoPort;
+import com.example.todo.domain.event.TodoUpdated;
+import com.example.todo.domain.model.DueDate;
+import com.example.todo.domain.model.Title;
+import com.example.todo.domain.model.Todo;
+import com.example.todo.domain.model.TodoChanges;
+import com.example.todo.domain.model.TodoId;
+import com.example.todo.domain.model.UserId;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Opt-in write-behind for title and done edits. Edits to the same todo within one window are
+ * merged in memory, last writer wins by {@code updatedAt}, and written as one JDBC batch when the
+ * window closes, so a burst of checkbox clicks costs a single UPDATE per todo.
+ *
+ * <p>Merges and flushes of one todo are serialized, and an edit stays buffered until the
+ * transaction writing it has committed, so reads and later edits always see it. A flush writes
+ * only the columns that differ from the stored row and publishes the resulting
+ * {@link TodoUpdated} in its own transaction, which puts the outbox row next to the write.
+ *
+ * <p>Any read of a user's todos flushes that user's pending edits first, and every edit is flushed
+ * on shutdown. Flushes run in their own transaction so they also work under read-only callers and
+ * survive a rollback of the caller; such a caller briefly holds two connections. Edits still
+ * buffered when the process dies are lost, which is the price of the opt-in.
+ */
+@Component
+class TodoWriteBehindBuffer implements MeterBinder {
+
+    private static final Logger log = LoggerFactory.getLogger(TodoWriteBehindBuffer.class);
+
+    // Columns not edited keep their value. The updated_at guard keeps a flush from overwriting a
+    // newer write made through another path, e.g. another instance; such rows are retried below.
+    private static final String UPDATE = """
+        UPDATE todos SET title = CASE WHEN :setTitle THEN :title ELSE title END,
+                         done = CASE WHEN :setDone THEN :done ELSE done END,
+                         updated_at = :updatedAt
+        WHERE id = :id AND user_id = :userId AND updated_at <= :notAfter
+        """;
+
+    private static final String SELECT = """
+        SELECT title, due_date, done, created_at, updated_at FROM todos WHERE id = :id AND user_id = :userId
+        """;
+
+    private final Map<TodoId, Entry> pending = new ConcurrentHashMap<>();
+    private final NamedParameterJdbcTemplate jdbc;
+    private final TransactionTemplate transactionTemplate;
+    private final TodoListCache listCache;
+    private final ApplicationEventPublisher events;
+    private final boolean enabled;
+    private final Duration window;
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder flushed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "todo-write-behind");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    TodoWriteBehindBuffer(NamedParameterJdbcTemplate jdbc,
+                          PlatformTransactionManager transactionManager,
+                          TodoListCache listCache,
+                          ApplicationEventPublisher events,
+                          @Value("${todo.write-behind.enabled:false}") boolean enabled,
+                          @Value("${todo.write-behind.window:250ms}") Duration window) {
+        this.jdbc = jdbc;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.listCache = listCache;
+        this.events = events;
+        this.enabled = enabled;
+        this.window = window;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void start() {
+        if (enabled) {
+            scheduler.scheduleWithFixedDelay(this::flushInBackground, window.toMillis(), window.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Whether the edit can be buffered: only non-empty title and done changes are.
+     */
+    boolean accepts(TodoChanges changes) {
+        return enabled && changes.dueDate().isEmpty() && !changes.isEmpty();
+    }
+
+    /**
+     * Applies the edit on top of the buffered state, or on the row {@code stored} loads when
+     * nothing is buffered yet, and returns the merged state as a deferred outcome. An edit older
+     * than the buffered state is ignored. Empty if the user has no such todo.
+     */
+    Optional<UpdateTodoPort.Outcome> merge(TodoId todoId, UserId userId, Supplier<Optional<Todo>> stored,
+                                           TodoChanges changes, Instant now) {
+        while (true) {
+            Entry entry = pending.computeIfAbsent(todoId, id -> new Entry(id, userId));
+            entry.lock.lock();
+            try {
+                if (entry.retired) {
+                    // Flushed or discarded between lookup and lock; start over on a fresh entry.
+                    continue;
+                }
+                if (!entry.userId.equals(userId)) {
+                    return Optional.empty();
+                }
+                if (entry.state == null) {
+                    Optional<Todo> row = stored.get();
+                    if (row.isEmpty()) {
+                        retire(entry);
+                        return Optional.empty();
+                    }
+                    entry.base = row.get();
+                    entry.state = row.get();
+                } else {
+                    coalesced.increment();
+                }
+                Todo before = entry.state;
+                if (!now.isBefore(before.updatedAt())) {
+                    entry.state = before.apply(changes, now);
+                }
+                return Optional.of(new UpdateTodoPort.Outcome(entry.state, entry.state != before, true));
+            } finally {
+                entry.lock.unlock();
+            }
+        }
+    }
+
+    void flush(UserId userId) {
+        flushWhere(entry -> entry.userId.equals(userId));
+    }
+
+    void flush(TodoId todoId) {
+        flushWhere(entry -> entry.todoId.equals(todoId));
+    }
+
+    void discard(Collection<TodoId> todoIds) {
+        for (TodoId todoId : todoIds) {
+            Entry entry = pending.get(todoId);
+            if (entry != null) {
+                entry.lock.lock();
+                try {
+                    retire(entry);
+                } finally {
+                    entry.lock.unlock();
+                }
+            }
+        }
+    }
+
+    @PreDestroy
+    void close() {
+        scheduler.shutdown();
+        flushWhere(entry -> true);
+    }
+
+    private void flushInBackground() {
+        try {
+            flushWhere(entry -> true);
+        } catch (RuntimeException ex) {
+            log.warn("Write-behind flush failed; edits stay buffered for the next attempt", ex);
+        }
+    }
+
+    private void flushWhere(Predicate<Entry> filter) {
+        if (pending.isEmpty()) {
+            return;
+        }
+        // Locks are taken in id order, so concurrent flushes over overlapping entries cannot deadlock.
+        List<Entry> batch = pending.values().stream()
+            .filter(filter)
+            .sorted(Comparator.comparing(entry -> entry.todoId.value()))
+            .toList();
+        List<Entry> locked = new ArrayList<>(batch.size());
+        try {
+            for (Entry entry : batch) {
+                entry.lock.lock();
+                locked.add(entry);
+            }
+            List<Entry> dirty = new ArrayList<>(locked.size());
+            for (Entry entry : locked) {
+                if (!entry.retired && entry.state != null && (entry.titleChanged() || entry.doneChanged())) {
+                    dirty.add(entry);
+                }
+            }
+            if (!dirty.isEmpty()) {
+                transactionTemplate.executeWithoutResult(status -> write(dirty));
+                flushed.add(dirty.size());
+            }
+            for (Entry entry : locked) {
+                if (!entry.retired) {
+                    retire(entry);
+                    listCache.invalidate(entry.userId);
+                }
+            }
+        } finally {
+            locked.forEach(entry -> entry.lock.unlock());
+        }
+    }
+
+    private void write(List<Entry> dirty) {
+        SqlParameterSource[] params = new SqlParameterSource[dirty.size()];
+        for (int i = 0; i < dirty.size(); i++) {
+            Entry entry = dirty.get(i);
+            params[i] = params(entry, entry.titleChanged(), entry.doneChanged(), entry.state.updatedAt(), entry.state.updatedAt());
+        }
+        int[] counts = jdbc.batchUpdate(UPDATE, params);
+        for (int i = 0; i < dirty.size(); i++) {
+            Entry entry = dirty.get(i);
+            Optional<Todo> written = counts[i] == 0 ? retry(entry) : Optional.of(entry.state);
+            written.ifPresent(todo -> events.publishEvent(new TodoUpdated(todo, todo.updatedAt())));
+        }
+    }
+
+    /**
+     * The row changed after the edit was made. Edited columns the newer write left alone are still
+     * applied, with {@code updated_at} moved just past the newer write; the rest of the edit loses.
+     */
+    private Optional<Todo> retry(Entry entry) {
+        MapSqlParameterSource key = new MapSqlParameterSource()
+            .addValue("id", entry.todoId.value())
+            .addValue("userId", entry.userId.value(), Types.VARCHAR);
+        Optional<Todo> current = jdbc.query(SELECT, key, (rs, rowNum) -> Todo.restore(
+            entry.todoId,
+            entry.userId,
+            Title.from(rs.getString("title")),
+            Optional.ofNullable(rs.getObject("due_date", LocalDate.class)).map(DueDate::of).orElse(DueDate.none()),
+            rs.getBoolean("done"),
+            rs.getObject("created_at", OffsetDateTime.class).toInstant(),
+            rs.getObject("updated_at", OffsetDateTime.class).toInstant()
+        )).stream().findFirst();
+        if (current.isEmpty()) {
+            rejected.increment();
+            return Optional.empty();
+        }
+        Todo row = current.get();
+        boolean setTitle = entry.titleChanged() && row.title().equals(entry.base.title());
+        boolean setDone = entry.doneChanged() && row.done() == entry.base.done();
+        if (!setTitle && !setDone) {
+            rejected.increment();
+            log.warn("Buffered edit of todo {} lost to a newer write", entry.todoId.value());
+            return Optional.empty();
+        }
+        Instant updatedAt = row.updatedAt().plus(1, ChronoUnit.MICROS);
+        if (jdbc.update(UPDATE, params(entry, setTitle, setDone, updatedAt, row.updatedAt())) == 0) {
+            rejected.increment();
+            log.warn("Buffered edit of todo {} lost to a concurrent write", entry.todoId.value());
+            return Optional.empty();
+        }
+        Todo merged = row;
+        if (setTitle) {
+            merged = merged.withTitle(entry.state.title(), updatedAt);
+        }
+        if (setDone) {
+            merged = merged.withDone(entry.state.done(), updatedAt);
+        }
+        return Optional.of(merged);
+    }
+
+    private static MapSqlParameterSource params(Entry entry, boolean setTitle, boolean setDone, Instant updatedAt, Instant notAfter) {
+        return new MapSqlParameterSource()
+            .addValue("id", entry.todoId.value())
+            .addValue("userId", entry.userId.value(), Types.VARCHAR)
+            .addValue("setTitle", setTitle, Types.BOOLEAN)
+            .addValue("title", entry.state.title().value(), Types.VARCHAR)
+            .addValue("setDone", setDone, Types.BOOLEAN)
+            .addValue("done", entry.state.done(), Types.BOOLEAN)
+            .addValue("updatedAt", timestamp(updatedAt), Types.TIMESTAMP_WITH_TIMEZONE)
+            .addValue("notAfter", timestamp(notAfter), Types.TIMESTAMP_WITH_TIMEZONE);
+    }
+
+    private static OffsetDateTime timestamp(Instant instant) {
+        return instant.truncatedTo(ChronoUnit.MICROS).atOffset(ZoneOffset.UTC);
+    }
+
+    // Callers hold the entry's lock.
+    private void retire(Entry entry) {
+        entry.retired = true;
+        pending.remove(entry.todoId, entry);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("todo.write_behind.coalesced", coalesced, LongAdder::sum)
+            .description("Edits merged into an already buffered edit")
+            .register(registry);
+        FunctionCounter.builder("todo.write_behind.flushed", flushed, LongAdder::sum)
+            .description("Buffered todos written to the database")
+            .register(registry);
+        FunctionCounter.builder("todo.write_behind.rejected", rejected, LongAdder::sum)
+            .description("Buffered todos not written because the row was deleted or changed by a newer write")
+            .register(registry);
+        Gauge.builder("todo.write_behind.pending", pending, Map::size)
+            .description("Todos with buffered edits")
+            .register(registry);
+    }
+
+    /**
+     * Buffered edits of one todo. {@code base} is the row as loaded, {@code state} the merged
+     * edits; both are guarded by {@code lock}.
+     */
+    private static final class Entry {
+
+        private final TodoId todoId;
+        private final UserId userId;
+        private final ReentrantLock lock = new ReentrantLock();
+        private Todo base;
+        private Todo state;
+        private boolean retired;
+
+        Entry(TodoId todoId, UserId userId) {
+            this.todoId = todoId;
+            this.userId = userId;
+        }
+
+        boolean titleChanged() {
+            return !state.title().equals(base.title());
+        }
+
+        boolean doneChanged() {
+            return state.done() != base.done();
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.todo.application.command;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Ordered list of create/update/delete operations applied in a single transaction.
+ */
+public record BatchTodoCommand(List<Operation> operations) {
+
+    public static final int MAX_OPERATIONS = 500;
+
+    public BatchTodoCommand {
+        Objects.requireNonNull(operations, "operations");
+        if (operations.isEmpty()) {
+            throw new IllegalArgumentException("At least one operation is required");
+        }
+        if (operations.size() > MAX_OPERATIONS) {
+            throw new IllegalArgumentException("At most %d operations are allowed per batch".formatted(MAX_OPERATIONS));
+        }
+        operations = List.copyOf(operations);
+    }
+
+    public sealed interface Operation permits Create, Update, Delete, Invalid {
+    }
+
+    public record Create(CreateTodoCommand command) implements Operation {
+
+        public Create {
+            Objects.requireNonNull(command, "command");
+        }
+    }
+
+    public record Update(UpdateTodoCommand command) implements Operation {
+
+        public Update {
+            Objects.requireNonNull(command, "command");
+        }
+    }
+
+    public record Delete(DeleteTodoCommand command) implements Operation {
+
+        public Delete {
+            Objects.requireNonNull(command, "command");
+        }
+    }
+
+    /**
+     * An entry the caller could not turn into an operation; it is reported as invalid in place.
+     */
+    public record Invalid(String reason) implements Operation {
+
+        public Invalid {
+            Objects.requireNonNull(reason, "reason");
+        }
+    }
+}
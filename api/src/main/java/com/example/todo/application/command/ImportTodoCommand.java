@@ -0,0 +1,17 @@
+package com.example.todo.application.command;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Optional;
+
+/**
+ * One row of a bulk import. Imported todos always get a new id; the done flag and, when given,
+ * the creation time carry over from the source.
+ */
+public record ImportTodoCommand(String title, Optional<LocalDate> dueDate, boolean done, Optional<Instant> createdAt) {
+
+    public ImportTodoCommand {
+        dueDate = dueDate == null ? Optional.empty() : dueDate;
+        createdAt = createdAt == null ? Optional.empty() : createdAt;
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.todo.application.port.in;
+
+import com.example.todo.application.command.BatchTodoCommand;
+import com.example.todo.application.result.BatchOperationResult;
+import java.util.List;
+
+public interface BatchTodoUseCase {
+
+    List<BatchOperationResult> execute(BatchTodoCommand command, AuthenticatedUser user);
+}
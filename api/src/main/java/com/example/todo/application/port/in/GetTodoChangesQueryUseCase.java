@@ -0,0 +1,14 @@
+package com.example.todo.application.port.in;
+
+import com.example.todo.application.query.SyncToken;
+import com.example.todo.application.result.TodoDelta;
+import java.util.Optional;
+
+public interface GetTodoChangesQueryUseCase {
+
+    /**
+     * Returns the user's changes after {@code since}; without a token, only a starting token is
+     * returned and the client is asked to load the full list.
+     */
+    TodoDelta getChanges(Optional<SyncToken> since, AuthenticatedUser user);
+}
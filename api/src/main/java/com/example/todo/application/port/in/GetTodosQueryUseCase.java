@@ -1,10 +1,21 @@
 package com.example.todo.application.port.in;
 
 import com.example.todo.application.query.TodoQuery;
-import com.example.todo.application.result.TodoResult;
-import java.util.List;
+import com.example.todo.application.result.TodoListVersion;
+import com.example.todo.application.result.TodoPage;
 
 public interface GetTodosQueryUseCase {
 
-    List<TodoResult> getTodos(TodoQuery query, AuthenticatedUser user);
+    /**
+     * Loads one page. {@code version} is the list version the caller has just read with
+     * {@link #getListVersion}, typically for the response's ETag; the page returned is never older
+     * than that version.
+     */
+    TodoPage getTodos(TodoQuery query, TodoListVersion version, AuthenticatedUser user);
+
+    /**
+     * Returns the user's current list version without loading any todos, so callers can answer
+     * conditional requests before paying for the full query.
+     */
+    TodoListVersion getListVersion(AuthenticatedUser user);
 }
@@ -0,0 +1,16 @@
+package com.example.todo.application.port.in;
+
+import com.example.todo.application.command.ImportTodoCommand;
+import com.example.todo.application.result.ImportChunkResult;
+import java.util.List;
+
+public interface ImportTodosUseCase {
+
+    /**
+     * Validates every row and inserts the valid ones together in one transaction; invalid rows
+     * are skipped and reported. Callers split large imports into chunks so that each commits on
+     * its own and memory stays bounded. Each imported todo is published as a {@code TodoCreated}
+     * event, like a todo created one at a time.
+     */
+    ImportChunkResult importChunk(List<ImportTodoCommand> rows, AuthenticatedUser user);
+}
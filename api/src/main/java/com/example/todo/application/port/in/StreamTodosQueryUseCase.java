@@ -0,0 +1,15 @@
+package com.example.todo.application.port.in;
+
+import com.example.todo.application.query.TodoQuery;
+import com.example.todo.application.result.TodoResult;
+import java.util.function.Consumer;
+
+public interface StreamTodosQueryUseCase {
+
+    /**
+     * Passes each of the user's todos matching the query to {@code action} as it is read, for
+     * responses too large to build as one page. The query's limit does not apply; its cursor
+     * does, so an interrupted export can resume.
+     */
+    void streamTodos(TodoQuery query, AuthenticatedUser user, Consumer<TodoResult> action);
+}
@@ -2,8 +2,18 @@ package com.example.todo.application.port.out;
 
 import com.example.todo.domain.model.TodoId;
 import com.example.todo.domain.model.UserId;
+import java.time.Instant;
+import java.util.Collection;
 
 public interface DeleteTodoPort {
 
-    void deleteByIdAndUser(TodoId todoId, UserId userId);
+    /**
+     * Deletes the todo and records the deletion at {@code deletedAt} for delta sync.
+     */
+    void deleteByIdAndUser(TodoId todoId, UserId userId, Instant deletedAt);
+
+    /**
+     * Deletes whichever of the given todos the user owns, returning how many were removed.
+     */
+    long deleteAllByIdsAndUser(Collection<TodoId> todoIds, UserId userId, Instant deletedAt);
 }
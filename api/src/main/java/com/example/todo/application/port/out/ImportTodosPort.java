@@ -0,0 +1,14 @@
+package com.example.todo.application.port.out;
+
+import com.example.todo.domain.model.Todo;
+import com.example.todo.domain.model.UserId;
+import java.util.List;
+
+public interface ImportTodosPort {
+
+    /**
+     * Inserts new todos, all owned by {@code userId}, with batched statements and without
+     * loading them back.
+     */
+    void importAll(UserId userId, List<Todo> todos);
+}
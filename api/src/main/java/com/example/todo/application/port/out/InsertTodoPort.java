@@ -0,0 +1,15 @@
+package com.example.todo.application.port.out;
+
+import com.example.todo.domain.model.Todo;
+import java.util.List;
+
+/**
+ * Persists aggregates that are known to be new, so the adapter can issue a plain INSERT
+ * instead of checking for an existing row first.
+ */
+public interface InsertTodoPort {
+
+    Todo insert(Todo todo);
+
+    List<Todo> insertAll(List<Todo> todos);
+}
@@ -0,0 +1,21 @@
+package com.example.todo.application.port.out;
+
+import com.example.todo.domain.model.Todo;
+import com.example.todo.domain.model.TodoId;
+import com.example.todo.domain.model.UserId;
+import java.time.Instant;
+import java.util.List;
+
+public interface LoadTodoChangesPort {
+
+    /**
+     * Loads at most {@code limit} todos whose {@code updatedAt} is strictly after {@code since},
+     * oldest change first.
+     */
+    List<Todo> loadUpdatedSince(UserId userId, Instant since, int limit);
+
+    /**
+     * Loads the ids of at most {@code limit} todos deleted strictly after {@code since}.
+     */
+    List<TodoId> loadDeletedSince(UserId userId, Instant since, int limit);
+}
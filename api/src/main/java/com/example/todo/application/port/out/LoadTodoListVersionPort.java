@@ -0,0 +1,9 @@
+package com.example.todo.application.port.out;
+
+import com.example.todo.application.result.TodoListVersion;
+import com.example.todo.domain.model.UserId;
+
+public interface LoadTodoListVersionPort {
+
+    TodoListVersion loadListVersion(UserId userId);
+}
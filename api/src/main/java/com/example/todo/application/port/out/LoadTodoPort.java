@@ -3,9 +3,13 @@ package com.example.todo.application.port.out;
 import com.example.todo.domain.model.Todo;
 import com.example.todo.domain.model.TodoId;
 import com.example.todo.domain.model.UserId;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface LoadTodoPort {
 
     Optional<Todo> loadByIdAndUser(TodoId todoId, UserId userId);
+
+    List<Todo> loadAllByIdsAndUser(Collection<TodoId> todoIds, UserId userId);
 }
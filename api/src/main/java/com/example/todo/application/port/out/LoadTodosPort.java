@@ -1,11 +1,24 @@
 package com.example.todo.application.port.out;
 
 import com.example.todo.application.query.TodoQuery;
-import com.example.todo.domain.model.Todo;
+import com.example.todo.application.result.TodoListVersion;
+import com.example.todo.application.result.TodoResult;
 import com.example.todo.domain.model.UserId;
 import java.util.List;
 
 public interface LoadTodosPort {
 
-    List<Todo> loadTodos(UserId userId, TodoQuery.Filter filter);
+    /**
+     * Loads at most {@code limit} todos matching the query's filters, strictly after its cursor,
+     * in the query's sort order (best search match first when searching). The query must already
+     * be {@link TodoQuery#resolve resolved}, i.e. free of {@link TodoQuery.Filter#OVERDUE}.
+     *
+     * <p>Lists are read-only, so rows come back as results rather than {@link
+     * com.example.todo.domain.model.Todo} aggregates; load a single todo to change it.
+     *
+     * <p>{@code version} is the list version the caller read just before, e.g. to tag the
+     * response; implementations may reuse an earlier result only if it was loaded under that
+     * same version.
+     */
+    List<TodoResult> loadTodos(UserId userId, TodoQuery query, int limit, TodoListVersion version);
 }
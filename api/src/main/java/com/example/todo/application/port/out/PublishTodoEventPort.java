@@ -0,0 +1,12 @@
+package com.example.todo.application.port.out;
+
+import com.example.todo.domain.event.TodoEvent;
+
+public interface PublishTodoEventPort {
+
+    /**
+     * Publishes the event as part of the current transaction; subscribers that act outside the
+     * database only see it once the transaction commits.
+     */
+    void publish(TodoEvent event);
+}
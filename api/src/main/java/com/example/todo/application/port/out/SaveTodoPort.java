@@ -1,8 +1,11 @@
 package com.example.todo.application.port.out;
 
 import com.example.todo.domain.model.Todo;
+import java.util.List;
 
 public interface SaveTodoPort {
 
     Todo save(Todo todo);
+
+    List<Todo> saveAll(List<Todo> todos);
 }
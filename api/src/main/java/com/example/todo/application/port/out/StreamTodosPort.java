@@ -0,0 +1,16 @@
+package com.example.todo.application.port.out;
+
+import com.example.todo.application.query.TodoQuery;
+import com.example.todo.application.result.TodoResult;
+import com.example.todo.domain.model.UserId;
+import java.util.function.Consumer;
+
+public interface StreamTodosPort {
+
+    /**
+     * Hands every todo matching the query to {@code action}, in the query's sort order and
+     * without a page limit, while reading them from the database. Nothing is collected, so memory
+     * use does not depend on how many todos match. The query must already be resolved.
+     */
+    void streamTodos(UserId userId, TodoQuery query, Consumer<TodoResult> action);
+}
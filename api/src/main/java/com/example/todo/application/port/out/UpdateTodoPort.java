@@ -0,0 +1,25 @@
+package com.example.todo.application.port.out;
+
+import com.example.todo.domain.model.Todo;
+import com.example.todo.domain.model.TodoChanges;
+import com.example.todo.domain.model.TodoId;
+import com.example.todo.domain.model.UserId;
+import java.time.Instant;
+import java.util.Optional;
+
+public interface UpdateTodoPort {
+
+    /**
+     * Applies the changes to the user's todo without loading it first, bumping {@code updatedAt}
+     * to {@code now} only if a value actually changed. Empty if the user has no such todo.
+     */
+    Optional<Outcome> update(TodoId todoId, UserId userId, TodoChanges changes, Instant now);
+
+    /**
+     * The todo after the update, and whether any value differed from the stored one. A deferred
+     * change is written later; the adapter publishes its {@code TodoUpdated} once it is, in the
+     * transaction that writes it.
+     */
+    record Outcome(Todo todo, boolean changed, boolean deferred) {
+    }
+}
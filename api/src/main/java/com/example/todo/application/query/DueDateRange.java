@@ -0,0 +1,37 @@
+package com.example.todo.application.query;
+
+import com.example.todo.common.InvalidTodoRequestException;
+import java.time.LocalDate;
+import java.util.Optional;
+
+/**
+ * Inclusive bounds on a todo's due date. Any bound excludes todos without a due date.
+ */
+public record DueDateRange(Optional<LocalDate> from, Optional<LocalDate> to) {
+
+    public static final DueDateRange ANY = new DueDateRange(Optional.empty(), Optional.empty());
+
+    public DueDateRange {
+        from = from == null ? Optional.empty() : from;
+        to = to == null ? Optional.empty() : to;
+        if (from.isPresent() && to.isPresent() && from.get().isAfter(to.get())) {
+            throw new InvalidTodoRequestException("Due date range start must not be after its end");
+        }
+    }
+
+    public boolean isBounded() {
+        return from.isPresent() || to.isPresent();
+    }
+
+    /**
+     * This range narrowed to due dates strictly before {@code day}, or empty if nothing remains.
+     */
+    public Optional<DueDateRange> before(LocalDate day) {
+        LocalDate last = day.minusDays(1);
+        LocalDate end = to.filter(current -> current.isBefore(last)).orElse(last);
+        if (from.isPresent() && from.get().isAfter(end)) {
+            return Optional.empty();
+        }
+        return Optional.of(new DueDateRange(from, Optional.of(end)));
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.todo.application.query;
+
+import com.example.todo.common.InvalidTodoRequestException;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Objects;
+
+/**
+ * Position in a user's change history for delta sync. Clients only ever see the opaque
+ * {@link #encode() token} form.
+ */
+public record SyncToken(Instant since) {
+
+    /**
+     * How long deletions stay visible to delta sync. Older tokens cannot be served
+     * incrementally and the client has to reload the full list.
+     */
+    public static final Duration RETENTION = Duration.ofDays(30);
+
+    public SyncToken {
+        Objects.requireNonNull(since, "since");
+    }
+
+    public String encode() {
+        String raw = since.getEpochSecond() + "." + since.getNano();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static SyncToken decode(String token) {
+        if (token == null || token.isBlank()) {
+            throw new InvalidTodoRequestException("Sync token must not be blank");
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int dot = raw.indexOf('.');
+            if (dot < 0) {
+                throw new InvalidTodoRequestException("Malformed sync token");
+            }
+            return new SyncToken(Instant.ofEpochSecond(
+                Long.parseLong(raw.substring(0, dot)),
+                Long.parseLong(raw.substring(dot + 1))
+            ));
+        } catch (IllegalArgumentException | DateTimeException ex) {
+            throw new InvalidTodoRequestException("Malformed sync token");
+        }
+    }
+}
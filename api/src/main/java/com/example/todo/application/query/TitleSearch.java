@@ -0,0 +1,40 @@
+package com.example.todo.application.query;
+
+import com.example.todo.common.InvalidTodoRequestException;
+import java.util.Locale;
+
+/**
+ * Case-insensitive substring search over todo titles. Matches are ranked, best first: the whole
+ * title, a title prefix, a word prefix, then any other occurrence. The persistence adapter ranks
+ * the same way in SQL; {@link #rank(String)} is what search cursors are built from.
+ */
+public record TitleSearch(String term) {
+
+    public static final int MAX_LENGTH = 100;
+
+    public static final int EXACT = 0;
+    public static final int PREFIX = 1;
+    public static final int WORD_PREFIX = 2;
+    public static final int SUBSTRING = 3;
+
+    public TitleSearch {
+        if (term == null || term.isBlank()) {
+            throw new InvalidTodoRequestException("Search term must not be blank");
+        }
+        term = term.strip().toLowerCase(Locale.ROOT);
+        if (term.length() > MAX_LENGTH) {
+            throw new InvalidTodoRequestException("Search term must be at most " + MAX_LENGTH + " characters");
+        }
+    }
+
+    public int rank(String title) {
+        String normalized = title.toLowerCase(Locale.ROOT);
+        if (normalized.equals(term)) {
+            return EXACT;
+        }
+        if (normalized.startsWith(term)) {
+            return PREFIX;
+        }
+        return normalized.contains(" " + term) ? WORD_PREFIX : SUBSTRING;
+    }
+}
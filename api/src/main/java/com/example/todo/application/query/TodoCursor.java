@@ -0,0 +1,75 @@
+package com.example.todo.application.query;
+
+import com.example.todo.common.InvalidTodoRequestException;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.UUID;
+
+/**
+ * Keyset position just after one todo. It records every value a {@link TodoQuery.Sort} can order
+ * by, plus the {@link TitleSearch#rank(String) rank} when it came from a search, so the next page
+ * resumes exactly after that todo whatever the sort. Clients only ever see the opaque
+ * {@link #encode() token} form.
+ */
+public record TodoCursor(UUID id, Instant createdAt, Instant updatedAt, Optional<LocalDate> dueDate, OptionalInt rank) {
+
+    private static final String SEPARATOR = ":";
+    private static final String ABSENT = "-";
+
+    public TodoCursor {
+        Objects.requireNonNull(id, "id");
+        Objects.requireNonNull(createdAt, "createdAt");
+        Objects.requireNonNull(updatedAt, "updatedAt");
+        dueDate = dueDate == null ? Optional.empty() : dueDate;
+        rank = rank == null ? OptionalInt.empty() : rank;
+    }
+
+    public String encode() {
+        String raw = String.join(SEPARATOR,
+            id.toString(),
+            encode(createdAt),
+            encode(updatedAt),
+            dueDate.map(LocalDate::toString).orElse(ABSENT),
+            rank.isPresent() ? Integer.toString(rank.getAsInt()) : ABSENT);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TodoCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            throw new InvalidTodoRequestException("Cursor must not be blank");
+        }
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split(SEPARATOR, -1);
+            if (parts.length != 5) {
+                throw new InvalidTodoRequestException("Malformed cursor");
+            }
+            return new TodoCursor(
+                UUID.fromString(parts[0]),
+                decodeInstant(parts[1]),
+                decodeInstant(parts[2]),
+                ABSENT.equals(parts[3]) ? Optional.empty() : Optional.of(LocalDate.parse(parts[3])),
+                ABSENT.equals(parts[4]) ? OptionalInt.empty() : OptionalInt.of(Integer.parseInt(parts[4]))
+            );
+        } catch (IllegalArgumentException | DateTimeException ex) {
+            throw new InvalidTodoRequestException("Malformed cursor");
+        }
+    }
+
+    private static String encode(Instant instant) {
+        return instant.getEpochSecond() + "." + instant.getNano();
+    }
+
+    private static Instant decodeInstant(String value) {
+        int dot = value.indexOf('.');
+        if (dot < 0) {
+            throw new InvalidTodoRequestException("Malformed cursor");
+        }
+        return Instant.ofEpochSecond(Long.parseLong(value.substring(0, dot)), Long.parseLong(value.substring(dot + 1)));
+    }
+}
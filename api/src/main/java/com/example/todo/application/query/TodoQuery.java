@@ -1,21 +1,93 @@
 package com.example.todo.application.query;
 
 import com.example.todo.application.query.TodoQuery.Filter;
+import com.example.todo.common.InvalidTodoRequestException;
+import com.example.todo.application.result.TodoResult;
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.OptionalInt;
 
 /**
- * Query DTO for retrieving todos.
+ * Query DTO for retrieving a page of todos: status filter, optional due date range and title
+ * search, sort order and page size. Search results are ordered by match rank first, then by
+ * {@code sort}.
  */
-public record TodoQuery(Filter filter) {
+public record TodoQuery(Filter filter,
+                        Optional<TodoCursor> after,
+                        int limit,
+                        Optional<TitleSearch> search,
+                        Sort sort,
+                        DueDateRange due) {
+
+    public static final int DEFAULT_LIMIT = 100;
+    public static final int MAX_LIMIT = 500;
 
     public TodoQuery {
         if (filter == null) {
             filter = Filter.ALL;
         }
+        after = after == null ? Optional.empty() : after;
+        search = search == null ? Optional.empty() : search;
+        if (sort == null) {
+            sort = Sort.CREATED;
+        }
+        if (due == null) {
+            due = DueDateRange.ANY;
+        }
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+        limit = Math.min(limit, MAX_LIMIT);
+        if (after.isPresent() && after.get().rank().isPresent() != search.isPresent()) {
+            throw new InvalidTodoRequestException("Cursor does not belong to this query");
+        }
+    }
+
+    public TodoQuery(Filter filter, Optional<TodoCursor> after, int limit, Optional<TitleSearch> search) {
+        this(filter, after, limit, search, Sort.CREATED, DueDateRange.ANY);
+    }
+
+    public TodoQuery(Filter filter, Optional<TodoCursor> after, int limit) {
+        this(filter, after, limit, Optional.empty());
+    }
+
+    public TodoQuery(Filter filter) {
+        this(filter, Optional.empty(), DEFAULT_LIMIT);
+    }
+
+    /**
+     * Replaces the date-relative {@link Filter#OVERDUE} with the equivalent active filter and due
+     * date bound for {@code today}; empty when the query cannot match anything.
+     */
+    public Optional<TodoQuery> resolve(LocalDate today) {
+        if (filter != Filter.OVERDUE) {
+            return Optional.of(this);
+        }
+        return due.before(today).map(range -> new TodoQuery(Filter.ACTIVE, after, limit, search, sort, range));
+    }
+
+    /**
+     * Cursor that resumes this query after {@code last}; search cursors also carry its rank.
+     */
+    public TodoCursor cursorAfter(TodoResult last) {
+        OptionalInt rank = search.map(text -> OptionalInt.of(text.rank(last.title()))).orElse(OptionalInt.empty());
+        return new TodoCursor(last.id(), last.createdAt(), last.updatedAt(), last.dueDate(), rank);
     }
 
     public enum Filter {
         ALL,
         ACTIVE,
-        DONE
+        DONE,
+        /** Not done and due before today. */
+        OVERDUE
+    }
+
+    public enum Sort {
+        /** Newest first. */
+        CREATED,
+        /** Soonest due first; todos without a due date last. */
+        DUE_DATE,
+        /** Most recently changed first. */
+        UPDATED
     }
 }
@@ -0,0 +1,29 @@
+package com.example.todo.application.result;
+
+import java.util.Optional;
+
+/**
+ * Outcome of one operation in a batch, in request order.
+ */
+public record BatchOperationResult(int index, Status status, Optional<TodoResult> todo, Optional<String> error) {
+
+    public enum Status {
+        CREATED,
+        UPDATED,
+        DELETED,
+        NOT_FOUND,
+        INVALID
+    }
+
+    public static BatchOperationResult success(int index, Status status, TodoResult todo) {
+        return new BatchOperationResult(index, status, Optional.of(todo), Optional.empty());
+    }
+
+    public static BatchOperationResult deleted(int index) {
+        return new BatchOperationResult(index, Status.DELETED, Optional.empty(), Optional.empty());
+    }
+
+    public static BatchOperationResult failure(int index, Status status, String error) {
+        return new BatchOperationResult(index, status, Optional.empty(), Optional.of(error));
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.todo.application.result;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Outcome of importing one chunk: how many rows were inserted and why the others were skipped,
+ * by their index within the chunk.
+ */
+public record ImportChunkResult(int imported, List<RowError> errors) {
+
+    public ImportChunkResult {
+        Objects.requireNonNull(errors, "errors");
+    }
+
+    public record RowError(int index, String message) {
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.todo.application.result;
+
+import com.example.todo.application.query.SyncToken;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Todos created or updated and ids deleted since a sync token, plus the token to resume from.
+ * When {@code resetRequired} is set the lists are empty and the client must reload the full
+ * list, then continue syncing from {@code syncToken}.
+ */
+public record TodoDelta(List<TodoResult> upserted, List<UUID> deleted, SyncToken syncToken, boolean resetRequired) {
+
+    public TodoDelta {
+        Objects.requireNonNull(upserted, "upserted");
+        Objects.requireNonNull(deleted, "deleted");
+        Objects.requireNonNull(syncToken, "syncToken");
+    }
+
+    public static TodoDelta reset(SyncToken syncToken) {
+        return new TodoDelta(List.of(), List.of(), syncToken, true);
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.todo.application.result;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Cheap fingerprint of a user's todo list. Every insert, effective update and delete changes
+ * either the row count or the latest {@code updatedAt}, so an unchanged version means an
+ * unchanged list.
+ */
+public record TodoListVersion(long count, Optional<Instant> lastUpdatedAt) {
+
+    public TodoListVersion {
+        lastUpdatedAt = lastUpdatedAt == null ? Optional.empty() : lastUpdatedAt;
+    }
+}
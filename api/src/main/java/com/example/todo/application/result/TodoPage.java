@@ -0,0 +1,17 @@
+package com.example.todo.application.result;
+
+import com.example.todo.application.query.TodoCursor;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * One page of todos plus the cursor to resume from, if more remain.
+ */
+public record TodoPage(List<TodoResult> items, Optional<TodoCursor> nextCursor) {
+
+    public TodoPage {
+        Objects.requireNonNull(items, "items");
+        nextCursor = nextCursor == null ? Optional.empty() : nextCursor;
+    }
+}
@@ -1,80 +1,242 @@
 package com.example.todo.application.service;
 
+import com.example.todo.application.command.BatchTodoCommand;
 import com.example.todo.application.command.CreateTodoCommand;
 import com.example.todo.application.command.DeleteTodoCommand;
+import com.example.todo.application.command.ImportTodoCommand;
 import com.example.todo.application.command.UpdateTodoCommand;
 import com.example.todo.application.port.in.AuthenticatedUser;
+import com.example.todo.application.port.in.BatchTodoUseCase;
 import com.example.todo.application.port.in.CreateTodoUseCase;
 import com.example.todo.application.port.in.DeleteTodoUseCase;
+import com.example.todo.application.port.in.ImportTodosUseCase;
 import com.example.todo.application.port.in.UpdateTodoUseCase;
 import com.example.todo.application.port.out.DeleteTodoPort;
+import com.example.todo.application.port.out.ImportTodosPort;
+import com.example.todo.application.port.out.InsertTodoPort;
 import com.example.todo.application.port.out.LoadTodoPort;
+import com.example.todo.application.port.out.PublishTodoEventPort;
 import com.example.todo.application.port.out.SaveTodoPort;
+import com.example.todo.application.port.out.UpdateTodoPort;
+import com.example.todo.application.result.BatchOperationResult;
+import com.example.todo.application.result.ImportChunkResult;
 import com.example.todo.application.result.TodoResult;
 import com.example.todo.common.TodoNotFoundException;
+import com.example.todo.domain.event.TodoCreated;
+import com.example.todo.domain.event.TodoDeleted;
+import com.example.todo.domain.event.TodoUpdated;
 import com.example.todo.domain.model.DueDate;
 import com.example.todo.domain.model.Title;
 import com.example.todo.domain.model.Todo;
+import com.example.todo.domain.model.TodoChanges;
 import com.example.todo.domain.model.TodoId;
+import com.example.todo.domain.model.UserId;
 import java.time.Clock;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @Transactional
-public class TodoCommandService implements CreateTodoUseCase, UpdateTodoUseCase, DeleteTodoUseCase {
+public class TodoCommandService implements CreateTodoUseCase, UpdateTodoUseCase, DeleteTodoUseCase, BatchTodoUseCase,
+    ImportTodosUseCase {
 
     private final LoadTodoPort loadTodoPort;
+    private final InsertTodoPort insertTodoPort;
     private final SaveTodoPort saveTodoPort;
+    private final UpdateTodoPort updateTodoPort;
     private final DeleteTodoPort deleteTodoPort;
+    private final ImportTodosPort importTodosPort;
+    private final PublishTodoEventPort publishTodoEventPort;
     private final Clock clock;
 
-    public TodoCommandService(LoadTodoPort loadTodoPort, SaveTodoPort saveTodoPort, DeleteTodoPort deleteTodoPort, Clock clock) {
+    public TodoCommandService(LoadTodoPort loadTodoPort,
+                              InsertTodoPort insertTodoPort,
+                              SaveTodoPort saveTodoPort,
+                              UpdateTodoPort updateTodoPort,
+                              DeleteTodoPort deleteTodoPort,
+                              ImportTodosPort importTodosPort,
+                              PublishTodoEventPort publishTodoEventPort,
+                              Clock clock) {
         this.loadTodoPort = loadTodoPort;
+        this.insertTodoPort = insertTodoPort;
         this.saveTodoPort = saveTodoPort;
+        this.updateTodoPort = updateTodoPort;
         this.deleteTodoPort = deleteTodoPort;
+        this.importTodosPort = importTodosPort;
+        this.publishTodoEventPort = publishTodoEventPort;
         this.clock = clock;
     }
 
     @Override
     public TodoResult create(CreateTodoCommand command, AuthenticatedUser user) {
         Instant now = Instant.now(clock);
-        Title title = Title.from(command.title());
-        DueDate dueDate = command.dueDate().map(DueDate::of).orElse(DueDate.none());
-        Todo todo = Todo.create(user.toUserId(), title, dueDate, now);
-        Todo saved = saveTodoPort.save(todo);
+        Todo saved = insertTodoPort.insert(newTodo(command, user.toUserId(), now));
+        publishTodoEventPort.publish(new TodoCreated(saved, now));
         return TodoResult.from(saved);
     }
 
     @Override
     public TodoResult update(UpdateTodoCommand command, AuthenticatedUser user) {
         TodoId todoId = TodoId.from(command.todoId());
-        Todo todo = loadTodoPort.loadByIdAndUser(todoId, user.toUserId())
+        TodoChanges changes = toChanges(command);
+        Instant now = Instant.now(clock);
+        UpdateTodoPort.Outcome updated = updateTodoPort.update(todoId, user.toUserId(), changes, now)
             .orElseThrow(() -> new TodoNotFoundException("Todo not found"));
+        // A PATCH repeating the stored values is not a change worth fanning out.
+        if (updated.changed() && !updated.deferred()) {
+            publishTodoEventPort.publish(new TodoUpdated(updated.todo(), now));
+        }
+        return TodoResult.from(updated.todo());
+    }
+
+    @Override
+    public void delete(DeleteTodoCommand command, AuthenticatedUser user) {
+        TodoId todoId = TodoId.from(command.todoId());
+        Instant now = Instant.now(clock);
+        deleteTodoPort.deleteByIdAndUser(todoId, user.toUserId(), now);
+        publishTodoEventPort.publish(new TodoDeleted(todoId, user.toUserId(), now));
+    }
+
+    @Override
+    public List<BatchOperationResult> execute(BatchTodoCommand command, AuthenticatedUser user) {
+        UserId userId = user.toUserId();
+        Instant now = Instant.now(clock);
+
+        // One read for every todo the batch touches; later operations see earlier ones' effects.
+        Set<TodoId> referenced = new LinkedHashSet<>();
+        for (BatchTodoCommand.Operation operation : command.operations()) {
+            if (operation instanceof BatchTodoCommand.Update update) {
+                referenced.add(TodoId.from(update.command().todoId()));
+            } else if (operation instanceof BatchTodoCommand.Delete delete) {
+                referenced.add(TodoId.from(delete.command().todoId()));
+            }
+        }
+        Map<TodoId, Todo> working = new HashMap<>();
+        if (!referenced.isEmpty()) {
+            for (Todo todo : loadTodoPort.loadAllByIdsAndUser(referenced, userId)) {
+                working.put(todo.id(), todo);
+            }
+        }
+        Set<TodoId> persisted = new HashSet<>(working.keySet());
+        Map<TodoId, Todo> created = new LinkedHashMap<>();
+        Map<TodoId, Todo> dirty = new LinkedHashMap<>();
+        Set<TodoId> deleted = new LinkedHashSet<>();
+
+        List<BatchOperationResult> results = new ArrayList<>(command.operations().size());
+        for (int index = 0; index < command.operations().size(); index++) {
+            try {
+                results.add(switch (command.operations().get(index)) {
+                    case BatchTodoCommand.Create create -> {
+                        Todo todo = newTodo(create.command(), userId, now);
+                        working.put(todo.id(), todo);
+                        created.put(todo.id(), todo);
+                        yield BatchOperationResult.success(index, BatchOperationResult.Status.CREATED, TodoResult.from(todo));
+                    }
+                    case BatchTodoCommand.Update update -> {
+                        TodoId todoId = TodoId.from(update.command().todoId());
+                        Todo current = working.get(todoId);
+                        if (current == null) {
+                            yield BatchOperationResult.failure(index, BatchOperationResult.Status.NOT_FOUND, "Todo not found");
+                        }
+                        Todo updated = current.apply(toChanges(update.command()), now);
+                        if (updated != current) {
+                            working.put(todoId, updated);
+                            (created.containsKey(todoId) ? created : dirty).put(todoId, updated);
+                        }
+                        yield BatchOperationResult.success(index, BatchOperationResult.Status.UPDATED, TodoResult.from(updated));
+                    }
+                    case BatchTodoCommand.Delete delete -> {
+                        TodoId todoId = TodoId.from(delete.command().todoId());
+                        if (working.remove(todoId) == null) {
+                            yield BatchOperationResult.failure(index, BatchOperationResult.Status.NOT_FOUND, "Todo not found");
+                        }
+                        created.remove(todoId);
+                        dirty.remove(todoId);
+                        if (persisted.contains(todoId)) {
+                            deleted.add(todoId);
+                        }
+                        yield BatchOperationResult.deleted(index);
+                    }
+                    case BatchTodoCommand.Invalid invalid ->
+                        BatchOperationResult.failure(index, BatchOperationResult.Status.INVALID, invalid.reason());
+                });
+            } catch (IllegalArgumentException ex) {
+                results.add(BatchOperationResult.failure(index, BatchOperationResult.Status.INVALID, ex.getMessage()));
+            }
+        }
+
+        if (!created.isEmpty()) {
+            insertTodoPort.insertAll(new ArrayList<>(created.values()));
+        }
+        if (!dirty.isEmpty()) {
+            saveTodoPort.saveAll(new ArrayList<>(dirty.values()));
+        }
+        if (!deleted.isEmpty()) {
+            deleteTodoPort.deleteAllByIdsAndUser(deleted, userId, now);
+        }
+        created.values().forEach(todo -> publishTodoEventPort.publish(new TodoCreated(todo, now)));
+        dirty.values().forEach(todo -> publishTodoEventPort.publish(new TodoUpdated(todo, now)));
+        deleted.forEach(todoId -> publishTodoEventPort.publish(new TodoDeleted(todoId, userId, now)));
+        return results;
+    }
+
+    @Override
+    public ImportChunkResult importChunk(List<ImportTodoCommand> rows, AuthenticatedUser user) {
+        UserId userId = user.toUserId();
         Instant now = Instant.now(clock);
-        Todo updated = todo;
+        List<Todo> valid = new ArrayList<>(rows.size());
+        List<ImportChunkResult.RowError> errors = new ArrayList<>();
+        for (int index = 0; index < rows.size(); index++) {
+            ImportTodoCommand row = rows.get(index);
+            try {
+                Title title = Title.from(row.title());
+                DueDate dueDate = row.dueDate().map(DueDate::of).orElse(DueDate.none());
+                // A creation time from the future would sort ahead of everything created later.
+                Instant createdAt = row.createdAt().filter(at -> !at.isAfter(now)).orElse(now);
+                valid.add(Todo.restore(TodoId.newId(), userId, title, dueDate, row.done(), createdAt, now));
+            } catch (IllegalArgumentException ex) {
+                errors.add(new ImportChunkResult.RowError(index, ex.getMessage()));
+            }
+        }
+        if (!valid.isEmpty()) {
+            importTodosPort.importAll(userId, valid);
+        }
+        valid.forEach(todo -> publishTodoEventPort.publish(new TodoCreated(todo, now)));
+        return new ImportChunkResult(valid.size(), errors);
+    }
+
+    private Todo newTodo(CreateTodoCommand command, UserId userId, Instant now) {
+        Title title = Title.from(command.title());
+        DueDate dueDate = command.dueDate().map(DueDate::of).orElse(DueDate.none());
+        return Todo.create(userId, title, dueDate, now);
+    }
+
+    private TodoChanges toChanges(UpdateTodoCommand command) {
+        Optional<Title> title = Optional.empty();
         if (command.titleProvided()) {
             String newTitle = command.title()
                 .orElseThrow(() -> new IllegalArgumentException("Title must not be null"));
-            updated = updated.withTitle(Title.from(newTitle), now);
+            title = Optional.of(Title.from(newTitle));
         }
+        Optional<DueDate> dueDate = Optional.empty();
         if (command.dueDateProvided()) {
-            DueDate dueDate = command.dueDate().map(DueDate::of).orElse(DueDate.none());
-            updated = updated.withDueDate(dueDate, now);
+            dueDate = Optional.of(command.dueDate().map(DueDate::of).orElse(DueDate.none()));
         }
+        Optional<Boolean> done = Optional.empty();
         if (command.doneProvided()) {
-            boolean done = command.done()
-                .orElseThrow(() -> new IllegalArgumentException("Done flag must not be null"));
-            updated = updated.withDone(done, now);
+            done = Optional.of(command.done()
+                .orElseThrow(() -> new IllegalArgumentException("Done flag must not be null")));
         }
-        Todo saved = saveTodoPort.save(updated);
-        return TodoResult.from(saved);
-    }
-
-    @Override
-    public void delete(DeleteTodoCommand command, AuthenticatedUser user) {
-        TodoId todoId = TodoId.from(command.todoId());
-        deleteTodoPort.deleteByIdAndUser(todoId, user.toUserId());
+        return new TodoChanges(title, dueDate, done);
     }
 }
@@ -1,29 +1,118 @@
 package com.example.todo.application.service;
 
 import com.example.todo.application.port.in.AuthenticatedUser;
+import com.example.todo.application.port.in.GetTodoChangesQueryUseCase;
 import com.example.todo.application.port.in.GetTodosQueryUseCase;
+import com.example.todo.application.port.in.StreamTodosQueryUseCase;
+import com.example.todo.application.port.out.LoadTodoChangesPort;
+import com.example.todo.application.port.out.LoadTodoListVersionPort;
 import com.example.todo.application.port.out.LoadTodosPort;
+import com.example.todo.application.port.out.StreamTodosPort;
+import com.example.todo.application.query.SyncToken;
+import com.example.todo.application.query.TodoCursor;
 import com.example.todo.application.query.TodoQuery;
+import com.example.todo.application.result.TodoDelta;
+import com.example.todo.application.result.TodoListVersion;
+import com.example.todo.application.result.TodoPage;
 import com.example.todo.application.result.TodoResult;
+import com.example.todo.domain.model.Todo;
+import com.example.todo.domain.model.TodoId;
+import com.example.todo.domain.model.UserId;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @Transactional(readOnly = true)
-public class TodoQueryService implements GetTodosQueryUseCase {
+public class TodoQueryService implements GetTodosQueryUseCase, GetTodoChangesQueryUseCase, StreamTodosQueryUseCase {
+
+    /** Most upserts or deletions returned by one delta; larger gaps fall back to a full reload. */
+    static final int MAX_CHANGES = 500;
+
+    /**
+     * Writes are stamped before they commit, so a change can become visible with a timestamp
+     * slightly older than a token already handed out. Tokens trail the clock by this much and the
+     * overlap is simply sent again; clients apply changes idempotently.
+     */
+    static final Duration SYNC_OVERLAP = Duration.ofSeconds(5);
 
     private final LoadTodosPort loadTodosPort;
+    private final LoadTodoListVersionPort loadTodoListVersionPort;
+    private final LoadTodoChangesPort loadTodoChangesPort;
+    private final StreamTodosPort streamTodosPort;
+    private final Clock clock;
 
-    public TodoQueryService(LoadTodosPort loadTodosPort) {
+    public TodoQueryService(LoadTodosPort loadTodosPort,
+                            LoadTodoListVersionPort loadTodoListVersionPort,
+                            LoadTodoChangesPort loadTodoChangesPort,
+                            StreamTodosPort streamTodosPort,
+                            Clock clock) {
         this.loadTodosPort = loadTodosPort;
+        this.loadTodoListVersionPort = loadTodoListVersionPort;
+        this.loadTodoChangesPort = loadTodoChangesPort;
+        this.streamTodosPort = streamTodosPort;
+        this.clock = clock;
+    }
+
+    @Override
+    public TodoPage getTodos(TodoQuery query, TodoListVersion version, AuthenticatedUser user) {
+        Optional<TodoQuery> resolved = query.resolve(LocalDate.now(clock));
+        if (resolved.isEmpty()) {
+            return new TodoPage(List.of(), Optional.empty());
+        }
+        TodoQuery effective = resolved.get();
+        // Fetch one extra row to learn whether another page exists without a count query.
+        List<TodoResult> rows = loadTodosPort.loadTodos(user.toUserId(), effective, effective.limit() + 1, version);
+        if (rows.size() <= effective.limit()) {
+            return new TodoPage(rows, Optional.empty());
+        }
+        List<TodoResult> items = rows.subList(0, effective.limit());
+        Optional<TodoCursor> next = Optional.of(effective.cursorAfter(items.get(items.size() - 1)));
+        return new TodoPage(items, next);
+    }
+
+    @Override
+    public void streamTodos(TodoQuery query, AuthenticatedUser user, Consumer<TodoResult> action) {
+        query.resolve(LocalDate.now(clock))
+            .ifPresent(effective -> streamTodosPort.streamTodos(user.toUserId(), effective, action));
+    }
+
+    @Override
+    public TodoListVersion getListVersion(AuthenticatedUser user) {
+        return loadTodoListVersionPort.loadListVersion(user.toUserId());
     }
 
     @Override
-    public List<TodoResult> getTodos(TodoQuery query, AuthenticatedUser user) {
-        return loadTodosPort.loadTodos(user.toUserId(), query.filter()).stream()
-            .map(TodoResult::from)
-            .collect(Collectors.toList());
+    public TodoDelta getChanges(Optional<SyncToken> since, AuthenticatedUser user) {
+        Instant now = Instant.now(clock);
+        Instant horizon = now.minus(SYNC_OVERLAP);
+        if (since.isEmpty() || since.get().since().isBefore(now.minus(SyncToken.RETENTION))) {
+            return TodoDelta.reset(new SyncToken(horizon));
+        }
+        Instant from = since.get().since();
+        UserId userId = user.toUserId();
+        List<Todo> updated = loadTodoChangesPort.loadUpdatedSince(userId, from, MAX_CHANGES + 1);
+        List<TodoId> deleted = loadTodoChangesPort.loadDeletedSince(userId, from, MAX_CHANGES + 1);
+        if (updated.size() > MAX_CHANGES || deleted.size() > MAX_CHANGES) {
+            return TodoDelta.reset(new SyncToken(horizon));
+        }
+        List<TodoResult> upserted = new ArrayList<>(updated.size());
+        for (Todo todo : updated) {
+            upserted.add(TodoResult.from(todo));
+        }
+        List<UUID> deletedIds = new ArrayList<>(deleted.size());
+        for (TodoId todoId : deleted) {
+            deletedIds.add(todoId.value());
+        }
+        Instant next = from.isAfter(horizon) ? from : horizon;
+        return new TodoDelta(upserted, deletedIds, new SyncToken(next), false);
     }
 }
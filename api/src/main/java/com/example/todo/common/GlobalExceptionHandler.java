@@ -1,6 +1,9 @@
 package com.example.todo.common;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.validation.ConstraintViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -10,12 +13,28 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    private final Counter notFound;
+
+    public GlobalExceptionHandler(MeterRegistry meterRegistry) {
+        this.notFound = Counter.builder("todo.not_found")
+            .description("Requests answered with 404 because the todo does not exist for the caller")
+            .register(meterRegistry);
+    }
+
     @ExceptionHandler(TodoNotFoundException.class)
     public ResponseEntity<ApiErrorResponse> handleNotFound(TodoNotFoundException ex) {
+        notFound.increment();
         return ResponseEntity.status(HttpStatus.NOT_FOUND)
             .body(ApiErrorResponse.of(ex.getMessage()));
     }
 
+    @ExceptionHandler(ServiceOverloadedException.class)
+    public ResponseEntity<ApiErrorResponse> handleOverloaded(ServiceOverloadedException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, Long.toString(Math.max(1, ex.retryAfter().toSeconds())))
+            .body(ApiErrorResponse.of(ex.getMessage()));
+    }
+
     @ExceptionHandler({InvalidTodoRequestException.class, MethodArgumentNotValidException.class, ConstraintViolationException.class, IllegalArgumentException.class})
     public ResponseEntity<ApiErrorResponse> handleBadRequest(RuntimeException ex) {
         return ResponseEntity.badRequest().body(ApiErrorResponse.of(ex.getMessage()));
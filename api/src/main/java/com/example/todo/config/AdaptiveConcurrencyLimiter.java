@@ -0,0 +1,170 @@
+package com.example.todo.config;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Concurrency limit that follows observed latency, in the style of a gradient limiter: while
+ * recent latency stays near the long-run baseline the limit grows by roughly its square root per
+ * sample, and when latency climbs (requests are queueing) it shrinks in proportion. Work beyond
+ * the limit is rejected up front instead of waiting in Tomcat's queue.
+ *
+ * <p>Writes may use the whole limit; reads are capped below it so a read spike cannot take the
+ * slots that writes need, and reads are also shed as soon as threads are waiting for a database
+ * connection.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    public enum Priority {
+        READ,
+        WRITE
+    }
+
+    public enum Rejection {
+        LIMIT,
+        POOL_SATURATED
+    }
+
+    private static final double SHORT_RTT_WEIGHT = 0.1;
+    private static final double LONG_RTT_WEIGHT = 0.002;
+    private static final double LIMIT_SMOOTHING = 0.2;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    // Guards the RTT averages. Not a monitor, so virtual threads never pin their carrier here.
+    private final ReentrantLock sampleLock = new ReentrantLock();
+    private final int minLimit;
+    private final int maxLimit;
+    private final double readShare;
+    private final long maxPendingConnections;
+    private final LongSupplier pendingConnections;
+    private final LongSupplier nanoTime;
+
+    private volatile double limit;
+    private double shortRtt;
+    private double longRtt;
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, double writeReserve,
+                                      long maxPendingConnections, LongSupplier pendingConnections) {
+        this(initialLimit, minLimit, maxLimit, writeReserve, maxPendingConnections, pendingConnections, System::nanoTime);
+    }
+
+    AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, double writeReserve,
+                               long maxPendingConnections, LongSupplier pendingConnections, LongSupplier nanoTime) {
+        if (minLimit < 1 || minLimit > initialLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("Limits must satisfy 1 <= min <= initial <= max");
+        }
+        if (writeReserve < 0 || writeReserve >= 1) {
+            throw new IllegalArgumentException("Write reserve must be in [0, 1)");
+        }
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.readShare = 1 - writeReserve;
+        this.maxPendingConnections = maxPendingConnections;
+        this.pendingConnections = pendingConnections;
+        this.nanoTime = nanoTime;
+    }
+
+    /**
+     * Admits one unit of work or says why not. A granted permit must be completed exactly once.
+     */
+    public Admission tryAcquire(Priority priority) {
+        if (priority == Priority.READ && pendingConnections.getAsLong() > maxPendingConnections) {
+            return Admission.rejected(Rejection.POOL_SATURATED);
+        }
+        int cap = priority == Priority.WRITE ? (int) limit : Math.max(1, (int) (limit * readShare));
+        while (true) {
+            int current = inFlight.get();
+            if (current >= cap) {
+                return Admission.rejected(Rejection.LIMIT);
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return Admission.granted(new Permit(nanoTime.getAsLong(), current + 1));
+            }
+        }
+    }
+
+    public int limit() {
+        return (int) limit;
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * Folds one latency sample into the averages. Completions never wait for each other: when
+     * another thread is already updating, this sample is dropped, which under that much traffic
+     * barely moves the averages.
+     */
+    private void onSample(long rttNanos, int inFlightAtStart) {
+        if (!sampleLock.tryLock()) {
+            return;
+        }
+        try {
+            updateLimit(rttNanos, inFlightAtStart);
+        } finally {
+            sampleLock.unlock();
+        }
+    }
+
+    private void updateLimit(long rttNanos, int inFlightAtStart) {
+        double rtt = Math.max(1, rttNanos);
+        if (longRtt == 0) {
+            shortRtt = rtt;
+            longRtt = rtt;
+        }
+        shortRtt += (rtt - shortRtt) * SHORT_RTT_WEIGHT;
+        longRtt += (rtt - longRtt) * LONG_RTT_WEIGHT;
+        // Latency dropped well below the baseline (e.g. after an incident): let the baseline catch up.
+        if (longRtt > 2 * shortRtt) {
+            longRtt *= 0.95;
+        }
+        double current = limit;
+        // A mostly idle limiter says nothing about how much more it could take.
+        if (inFlightAtStart < current / 2) {
+            return;
+        }
+        double gradient = Math.max(0.5, Math.min(1.0, longRtt / shortRtt));
+        double target = current * gradient + Math.sqrt(current);
+        double next = current * (1 - LIMIT_SMOOTHING) + target * LIMIT_SMOOTHING;
+        limit = Math.max(minLimit, Math.min(maxLimit, next));
+    }
+
+    public record Admission(Optional<Permit> permit, Optional<Rejection> rejection) {
+
+        static Admission granted(Permit permit) {
+            return new Admission(Optional.of(permit), Optional.empty());
+        }
+
+        static Admission rejected(Rejection rejection) {
+            return new Admission(Optional.empty(), Optional.of(rejection));
+        }
+    }
+
+    public final class Permit {
+
+        private final long startNanos;
+        private final int inFlightAtStart;
+
+        private Permit(long startNanos, int inFlightAtStart) {
+            this.startNanos = startNanos;
+            this.inFlightAtStart = inFlightAtStart;
+        }
+
+        public void complete() {
+            inFlight.decrementAndGet();
+            onSample(nanoTime.getAsLong() - startNanos, inFlightAtStart);
+        }
+
+        /**
+         * Gives the slot back without a latency sample, for work whose duration follows its size
+         * rather than the load on the server. Use instead of {@link #complete()}, not as well.
+         */
+        public void release() {
+            inFlight.decrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.todo.config;
+
+import com.example.todo.application.port.in.AuthenticatedUser;
+import com.example.todo.application.result.TodoResult;
+import com.example.todo.common.ServiceOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.function.Consumer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Puts {@link ExportLimiter} in front of {@code TodoQueryService.streamTodos} and aborts an export
+ * still running after {@code todo.export.timeout}, which closes its cursor and returns the
+ * connection. The deadline is checked between rows; a client that stops reading altogether is
+ * cut off by the server's write timeout instead. Ordered outside the transaction advice, so a
+ * rejected export never borrows a connection.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 3)
+public class ExportLimitAspect {
+
+    private static final Duration RETRY_AFTER = Duration.ofSeconds(5);
+
+    private final ExportLimiter limiter;
+    private final Duration timeout;
+    private final MeterRegistry registry;
+
+    public ExportLimitAspect(@Value("${todo.export.max-per-user:1}") int maxPerUser,
+                             @Value("${todo.export.max-concurrent:4}") int maxConcurrent,
+                             @Value("${todo.export.timeout:5m}") Duration timeout,
+                             MeterRegistry registry) {
+        this.limiter = new ExportLimiter(maxPerUser, maxConcurrent);
+        this.timeout = timeout;
+        this.registry = registry;
+        Gauge.builder("todo.export.in_flight", limiter, ExportLimiter::inFlight)
+            .description("Exports currently streaming")
+            .register(registry);
+    }
+
+    @Around("execution(public * com.example.todo.application.service.TodoQueryService.streamTodos(..))")
+    public Object admitExport(ProceedingJoinPoint joinPoint) throws Throwable {
+        // streamTodos(TodoQuery, AuthenticatedUser, Consumer<TodoResult>)
+        Object[] args = joinPoint.getArgs();
+        AuthenticatedUser user = (AuthenticatedUser) args[1];
+        @SuppressWarnings("unchecked")
+        Consumer<TodoResult> action = (Consumer<TodoResult>) args[2];
+        ExportLimiter.Admission admission = limiter.tryAcquire(user.uid());
+        if (!admission.granted()) {
+            rejections(admission.rejection().orElseThrow()).increment();
+            throw new ServiceOverloadedException("Too many exports in progress, please retry", RETRY_AFTER);
+        }
+        long deadline = System.nanoTime() + timeout.toNanos();
+        args[2] = (Consumer<TodoResult>) result -> {
+            if (System.nanoTime() - deadline > 0) {
+                throw new IllegalStateException("Export took longer than " + timeout);
+            }
+            action.accept(result);
+        };
+        try {
+            return joinPoint.proceed(args);
+        } finally {
+            admission.release();
+        }
+    }
+
+    private Counter rejections(ExportLimiter.Rejection rejection) {
+        return Counter.builder("todo.export.rejections")
+            .description("Exports rejected with 503 because too many were running")
+            .tag("reason", rejection.name().toLowerCase(Locale.ROOT))
+            .register(registry);
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.todo.config;
+
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Caps exports in flight per user and in total. An export holds a database connection until the
+ * client has read its last row, so a handful of slow downloads could otherwise drain the pool.
+ * Users without a running export take no space in the table.
+ */
+public class ExportLimiter {
+
+    private final int maxPerUser;
+    private final int maxConcurrent;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final ConcurrentHashMap<String, Integer> perUser = new ConcurrentHashMap<>();
+
+    public ExportLimiter(int maxPerUser, int maxConcurrent) {
+        if (maxPerUser < 1 || maxConcurrent < 1) {
+            throw new IllegalArgumentException("Export limits must be positive");
+        }
+        this.maxPerUser = maxPerUser;
+        this.maxConcurrent = maxConcurrent;
+    }
+
+    /**
+     * Tries to start one export for {@code uid}. A granted admission must be given back with
+     * {@link Admission#release()}.
+     */
+    public Admission tryAcquire(String uid) {
+        if (perUser.merge(uid, 1, Integer::sum) > maxPerUser) {
+            exitUser(uid);
+            return new Admission(uid, Optional.of(Rejection.USER));
+        }
+        while (true) {
+            int current = inFlight.get();
+            if (current >= maxConcurrent) {
+                exitUser(uid);
+                return new Admission(uid, Optional.of(Rejection.GLOBAL));
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return new Admission(uid, Optional.empty());
+            }
+        }
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    private void exitUser(String uid) {
+        perUser.computeIfPresent(uid, (key, count) -> count == 1 ? null : count - 1);
+    }
+
+    public enum Rejection {
+        USER,
+        GLOBAL
+    }
+
+    public final class Admission {
+
+        private final String uid;
+        private final Optional<Rejection> rejection;
+
+        private Admission(String uid, Optional<Rejection> rejection) {
+            this.uid = uid;
+            this.rejection = rejection;
+        }
+
+        public boolean granted() {
+            return rejection.isEmpty();
+        }
+
+        public Optional<Rejection> rejection() {
+            return rejection;
+        }
+
+        public void release() {
+            if (granted()) {
+                inFlight.decrementAndGet();
+                exitUser(uid);
+            }
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.todo.config;
+
+import com.example.todo.adapter.out.auth.FilePublicKeySource;
+import com.example.todo.adapter.out.auth.FirebaseJwtVerifier;
+import com.example.todo.adapter.out.auth.HttpPublicKeySource;
+import com.example.todo.adapter.out.auth.PublicKeySource;
+import com.example.todo.adapter.out.auth.RefreshingKeyStore;
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+
+/**
+ * Wires local ID-token verification when {@code todo.auth.verifier=jwks}. Keys come from
+ * {@code todo.auth.jwks.file} if set, otherwise from {@code todo.auth.jwks.uri}.
+ */
+@Configuration
+@ConditionalOnProperty(name = "todo.auth.verifier", havingValue = "jwks")
+public class FirebaseAuthConfig {
+
+    @Bean
+    public PublicKeySource publicKeySource(@Value("${todo.auth.jwks.uri}") URI uri,
+                                           @Value("${todo.auth.jwks.file:}") String file) {
+        if (StringUtils.hasText(file)) {
+            return new FilePublicKeySource(Path.of(file));
+        }
+        return new HttpPublicKeySource(uri);
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    public RefreshingKeyStore refreshingKeyStore(PublicKeySource publicKeySource,
+                                                 @Value("${todo.auth.jwks.default-refresh:1h}") Duration defaultRefresh) {
+        return new RefreshingKeyStore(publicKeySource, defaultRefresh);
+    }
+
+    @Bean
+    public FirebaseJwtVerifier firebaseJwtVerifier(RefreshingKeyStore refreshingKeyStore,
+                                                   @Value("${todo.auth.project-id}") String projectId,
+                                                   Clock clock) {
+        return new FirebaseJwtVerifier(refreshingKeyStore, projectId, clock);
+    }
+}
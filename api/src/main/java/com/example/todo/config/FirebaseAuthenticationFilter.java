@@ -2,6 +2,9 @@ package com.example.todo.config;
 
 import com.example.todo.adapter.out.auth.FirebaseTokenVerifier;
 import com.example.todo.adapter.out.auth.FirebaseUser;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -9,6 +12,7 @@ import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import org.springframework.http.HttpHeaders;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -20,9 +24,19 @@ import org.springframework.web.filter.OncePerRequestFilter;
 public class FirebaseAuthenticationFilter extends OncePerRequestFilter {
 
     private final FirebaseTokenVerifier tokenVerifier;
+    private final VerifiedTokenCache tokenCache;
+    private final Timer verificationSuccess;
+    private final Timer verificationFailure;
+    private final Counter missingToken;
+    private final Counter invalidToken;
 
-    public FirebaseAuthenticationFilter(FirebaseTokenVerifier tokenVerifier) {
+    public FirebaseAuthenticationFilter(FirebaseTokenVerifier tokenVerifier, VerifiedTokenCache tokenCache, MeterRegistry meterRegistry) {
         this.tokenVerifier = tokenVerifier;
+        this.tokenCache = tokenCache;
+        this.verificationSuccess = verificationTimer(meterRegistry, "success");
+        this.verificationFailure = verificationTimer(meterRegistry, "failure");
+        this.missingToken = failureCounter(meterRegistry, "missing_token");
+        this.invalidToken = failureCounter(meterRegistry, "invalid_token");
     }
 
     @Override
@@ -35,12 +49,16 @@ public class FirebaseAuthenticationFilter extends OncePerRequestFilter {
 
         String token = resolveToken(request.getHeader(HttpHeaders.AUTHORIZATION));
         if (!StringUtils.hasText(token)) {
+            missingToken.increment();
             response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "Missing Authorization header");
             return;
         }
 
-        Optional<FirebaseUser> user = tokenVerifier.verify(token);
+        long start = System.nanoTime();
+        Optional<FirebaseUser> user = tokenCache.get(token, tokenVerifier::verify);
+        (user.isPresent() ? verificationSuccess : verificationFailure).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
         if (user.isEmpty()) {
+            invalidToken.increment();
             response.sendError(HttpServletResponse.SC_UNAUTHORIZED, "Invalid authentication token");
             return;
         }
@@ -67,6 +85,20 @@ public class FirebaseAuthenticationFilter extends OncePerRequestFilter {
         return path == null || !path.startsWith("/api/");
     }
 
+    private static Timer verificationTimer(MeterRegistry registry, String outcome) {
+        return Timer.builder("todo.auth.verification")
+            .description("Bearer token verification, including token cache hits")
+            .tag("outcome", outcome)
+            .register(registry);
+    }
+
+    private static Counter failureCounter(MeterRegistry registry, String reason) {
+        return Counter.builder("todo.auth.failures")
+            .description("Requests rejected with 401")
+            .tag("reason", reason)
+            .register(registry);
+    }
+
     private String resolveToken(String header) {
         if (!StringUtils.hasText(header) || !header.startsWith("Bearer ")) {
             return null;
@@ -0,0 +1,76 @@
+package com.example.todo.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Times every use case ({@code todo.usecase}) and every outbound port call ({@code todo.port}),
+ * so a slow request can be attributed to the application layer or to a specific adapter.
+ * Ordered outside the transaction advice, so use case timings include the commit.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class LayerMetricsAspect {
+
+    private static final String PORT_OUT_PACKAGE = "com.example.todo.application.port.out";
+
+    private final MeterRegistry registry;
+    private final Map<Method, String> portNames = new ConcurrentHashMap<>();
+
+    public LayerMetricsAspect(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Around("execution(public * com.example.todo.application.service.*.*(..))")
+    public Object timeUseCase(ProceedingJoinPoint joinPoint) throws Throwable {
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        String useCase = signature.getDeclaringType().getSimpleName() + "." + signature.getName();
+        return time("todo.usecase", "use_case", useCase, joinPoint);
+    }
+
+    @Around("execution(* com.example.todo.application.port.out.*.*(..)) && within(com.example.todo.adapter.out..*)")
+    public Object timePort(ProceedingJoinPoint joinPoint) throws Throwable {
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        String port = portNames.computeIfAbsent(signature.getMethod(), method -> portName(joinPoint.getTarget().getClass(), method));
+        return time("todo.port", "port", port + "." + signature.getName(), joinPoint);
+    }
+
+    private Object time(String name, String tagKey, String tagValue, ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(registry);
+        String exception = "none";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable ex) {
+            exception = ex.getClass().getSimpleName();
+            throw ex;
+        } finally {
+            sample.stop(Timer.builder(name)
+                .tag(tagKey, tagValue)
+                .tag("exception", exception)
+                .register(registry));
+        }
+    }
+
+    // An adapter implements several ports; tag with the port interface that declares the method.
+    private static String portName(Class<?> adapter, Method method) {
+        for (Class<?> type : ClassUtils.getAllInterfacesForClassAsSet(adapter)) {
+            if (type.getPackageName().equals(PORT_OUT_PACKAGE)
+                && ClassUtils.hasMethod(type, method.getName(), method.getParameterTypes())) {
+                return type.getSimpleName();
+            }
+        }
+        return adapter.getSimpleName();
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.todo.config;
+
+import com.example.todo.common.ServiceOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Locale;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Puts {@link AdaptiveConcurrencyLimiter} in front of the use cases: {@code TodoCommandService}
+ * runs as write work, {@code TodoQueryService} as read work. Ordered inside
+ * {@link LayerMetricsAspect} but outside the transaction advice, so shed requests show up in
+ * {@code todo.usecase} and never borrow a connection.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@ConditionalOnProperty(name = "todo.load-shedding.enabled", havingValue = "true", matchIfMissing = true)
+public class LoadSheddingAspect {
+
+    private static final Duration RETRY_AFTER = Duration.ofSeconds(1);
+
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final MeterRegistry registry;
+
+    public LoadSheddingAspect(AdaptiveConcurrencyLimiter limiter, MeterRegistry registry) {
+        this.limiter = limiter;
+        this.registry = registry;
+        Gauge.builder("todo.load_shedding.limit", limiter, AdaptiveConcurrencyLimiter::limit)
+            .description("Current adaptive concurrency limit for use cases")
+            .register(registry);
+        Gauge.builder("todo.load_shedding.in_flight", limiter, AdaptiveConcurrencyLimiter::inFlight)
+            .description("Use case invocations currently admitted")
+            .register(registry);
+    }
+
+    @Around("execution(public * com.example.todo.application.service.TodoCommandService.*(..))"
+        + " && !execution(* com.example.todo.application.service.TodoCommandService.execute(..))"
+        + " && !execution(* com.example.todo.application.service.TodoCommandService.importChunk(..))")
+    public Object admitWrite(ProceedingJoinPoint joinPoint) throws Throwable {
+        return admit(AdaptiveConcurrencyLimiter.Priority.WRITE, joinPoint, true);
+    }
+
+    /**
+     * Batches and import chunks take a write slot like any write, but their duration grows with
+     * the number of rows they carry, so like streams they are kept out of the latency signal.
+     */
+    @Around("execution(public * com.example.todo.application.service.TodoCommandService.execute(..))"
+        + " || execution(public * com.example.todo.application.service.TodoCommandService.importChunk(..))")
+    public Object admitBulkWrite(ProceedingJoinPoint joinPoint) throws Throwable {
+        return admit(AdaptiveConcurrencyLimiter.Priority.WRITE, joinPoint, false);
+    }
+
+    @Around("execution(public * com.example.todo.application.service.TodoQueryService.*(..))"
+        + " && !execution(* com.example.todo.application.service.TodoQueryService.streamTodos(..))")
+    public Object admitRead(ProceedingJoinPoint joinPoint) throws Throwable {
+        return admit(AdaptiveConcurrencyLimiter.Priority.READ, joinPoint, true);
+    }
+
+    /**
+     * Streams still take a read slot for as long as they hold a connection, but their duration
+     * tracks how much the user exports, so it is kept out of the latency signal.
+     */
+    @Around("execution(public * com.example.todo.application.service.TodoQueryService.streamTodos(..))")
+    public Object admitStream(ProceedingJoinPoint joinPoint) throws Throwable {
+        return admit(AdaptiveConcurrencyLimiter.Priority.READ, joinPoint, false);
+    }
+
+    private Object admit(AdaptiveConcurrencyLimiter.Priority priority, ProceedingJoinPoint joinPoint,
+                         boolean sampleLatency) throws Throwable {
+        AdaptiveConcurrencyLimiter.Admission admission = limiter.tryAcquire(priority);
+        if (admission.permit().isEmpty()) {
+            AdaptiveConcurrencyLimiter.Rejection rejection = admission.rejection().orElseThrow();
+            rejections(priority, rejection).increment();
+            throw new ServiceOverloadedException("Server is busy, please retry", RETRY_AFTER);
+        }
+        AdaptiveConcurrencyLimiter.Permit permit = admission.permit().get();
+        try {
+            return joinPoint.proceed();
+        } finally {
+            if (sampleLatency) {
+                permit.complete();
+            } else {
+                permit.release();
+            }
+        }
+    }
+
+    private Counter rejections(AdaptiveConcurrencyLimiter.Priority priority, AdaptiveConcurrencyLimiter.Rejection rejection) {
+        return Counter.builder("todo.load_shedding.rejections")
+            .description("Use case invocations rejected with 503")
+            .tag("priority", priority.name().toLowerCase(Locale.ROOT))
+            .tag("reason", rejection.name().toLowerCase(Locale.ROOT))
+            .register(registry);
+    }
+}
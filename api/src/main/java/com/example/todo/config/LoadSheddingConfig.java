@@ -0,0 +1,75 @@
+package com.example.todo.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import java.sql.SQLException;
+import java.util.Optional;
+import java.util.function.LongSupplier;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(name = "todo.load-shedding.enabled", havingValue = "true", matchIfMissing = true)
+public class LoadSheddingConfig {
+
+    @Bean
+    public AdaptiveConcurrencyLimiter adaptiveConcurrencyLimiter(@Value("${todo.load-shedding.initial-limit:20}") int initialLimit,
+                                                                 @Value("${todo.load-shedding.min-limit:4}") int minLimit,
+                                                                 @Value("${todo.load-shedding.max-limit:200}") int maxLimit,
+                                                                 @Value("${todo.load-shedding.write-reserve:0.2}") double writeReserve,
+                                                                 @Value("${todo.load-shedding.max-pending-connections:10}") long maxPendingConnections,
+                                                                 ObjectProvider<DataSource> dataSource) {
+        return new AdaptiveConcurrencyLimiter(initialLimit, minLimit, maxLimit, writeReserve, maxPendingConnections,
+            new PendingConnections(dataSource));
+    }
+
+    /**
+     * Threads waiting for a Hikari connection in the pool reads use, which is the replica pool
+     * behind {@link ReadWriteRoutingDataSource}; 0 when the pool is not Hikari or not started yet.
+     */
+    static final class PendingConnections implements LongSupplier {
+
+        private final ObjectProvider<DataSource> dataSource;
+        private volatile HikariPoolMXBean pool;
+
+        PendingConnections(ObjectProvider<DataSource> dataSource) {
+            this.dataSource = dataSource;
+        }
+
+        @Override
+        public long getAsLong() {
+            HikariPoolMXBean current = pool;
+            if (current == null) {
+                Optional<HikariPoolMXBean> resolved = resolve();
+                if (resolved.isEmpty()) {
+                    return 0;
+                }
+                current = resolved.get();
+                pool = current;
+            }
+            return current.getThreadsAwaitingConnection();
+        }
+
+        private Optional<HikariPoolMXBean> resolve() {
+            DataSource candidate = dataSource.getIfAvailable();
+            try {
+                // Before the Hikari check: the router unwraps to whichever pool the calling thread
+                // would be routed to, which outside a transaction is the primary.
+                if (candidate != null && candidate.isWrapperFor(ReadWriteRoutingDataSource.class)) {
+                    HikariDataSource replica = candidate.unwrap(ReadWriteRoutingDataSource.class).replicaPool();
+                    return Optional.ofNullable(replica.getHikariPoolMXBean());
+                }
+                if (candidate == null || !candidate.isWrapperFor(HikariDataSource.class)) {
+                    return Optional.empty();
+                }
+                return Optional.ofNullable(candidate.unwrap(HikariDataSource.class).getHikariPoolMXBean());
+            } catch (SQLException ex) {
+                return Optional.empty();
+            }
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.todo.config;
+
+import com.example.todo.adapter.out.outbox.FileOutboxSink;
+import com.example.todo.adapter.out.outbox.InMemoryOutboxSink;
+import com.example.todo.adapter.out.outbox.OutboxSink;
+import java.nio.file.Path;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Chooses where relayed outbox events go. A real broker integration replaces the stand-ins by
+ * declaring its own {@link OutboxSink} bean.
+ */
+@Configuration
+public class OutboxConfig {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public OutboxSink outboxSink(@Value("${todo.outbox.sink:memory}") String sink,
+                                 @Value("${todo.outbox.file:todo-events.ndjson}") String file,
+                                 @Value("${todo.outbox.memory-capacity:1000}") int memoryCapacity) {
+        return switch (sink) {
+            case "file" -> new FileOutboxSink(Path.of(file));
+            case "memory" -> new InMemoryOutboxSink(memoryCapacity);
+            default -> throw new IllegalArgumentException("Unsupported todo.outbox.sink: " + sink);
+        };
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.todo.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import javax.sql.DataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.util.StringUtils;
+
+/**
+ * Active when {@code todo.datasource.replica.url} is set: replaces the single pool with a primary
+ * pool ({@code spring.datasource.*}) and a replica pool ({@code todo.datasource.replica.*}) behind
+ * {@link ReadWriteRoutingDataSource}. The pools are not beans of their own, so the DataSource
+ * wrappers (SQL accounting) see exactly one DataSource.
+ */
+@Configuration
+@ConditionalOnProperty(name = "todo.datasource.replica.url")
+public class ReadReplicaConfig {
+
+    @Bean
+    public DataSource dataSource(DataSourceProperties properties,
+                                 Environment environment,
+                                 ObjectProvider<MeterRegistry> meterRegistry,
+                                 @Value("${todo.datasource.replica.url}") String replicaUrl,
+                                 @Value("${todo.datasource.replica.username:}") String replicaUsername,
+                                 @Value("${todo.datasource.replica.password:}") String replicaPassword) {
+        Binder binder = Binder.get(environment);
+
+        HikariDataSource primary = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        binder.bind("spring.datasource.hikari", Bindable.ofInstance(primary));
+        primary.setPoolName("todo-primary");
+
+        HikariDataSource replica = properties.initializeDataSourceBuilder().type(HikariDataSource.class)
+            .url(replicaUrl)
+            .username(StringUtils.hasText(replicaUsername) ? replicaUsername : properties.determineUsername())
+            .password(StringUtils.hasText(replicaPassword) ? replicaPassword : properties.determinePassword())
+            .build();
+        binder.bind("todo.datasource.replica.hikari", Bindable.ofInstance(replica));
+        replica.setPoolName("todo-replica");
+        replica.setReadOnly(true);
+
+        meterRegistry.ifAvailable(registry -> {
+            primary.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+            replica.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+        });
+        return new ReadWriteRoutingDataSource(primary, replica);
+    }
+
+    @Bean
+    public ReadYourWritesGuard readYourWritesGuard(@Value("${todo.datasource.replica.sticky-window:5s}") Duration stickyWindow,
+                                                   @Value("${todo.datasource.replica.maximum-users:1000000}") long maximumUsers) {
+        return new ReadYourWritesGuard(stickyWindow, maximumUsers);
+    }
+
+    @Bean
+    public ReadYourWritesAspect readYourWritesAspect(ReadYourWritesGuard guard) {
+        return new ReadYourWritesAspect(guard);
+    }
+}
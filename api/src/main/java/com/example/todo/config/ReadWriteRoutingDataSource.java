@@ -0,0 +1,82 @@
+package com.example.todo.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import java.io.Closeable;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Sends read-only transactions to the replica pool and everything else to the primary. The
+ * physical connection is only chosen at the first statement, once the transaction's read-only
+ * flag is known. A thread can be {@link #pinToPrimary() pinned} to the primary, e.g. to read a
+ * user's own writes before the replica has caught up.
+ */
+public class ReadWriteRoutingDataSource extends LazyConnectionDataSourceProxy implements Closeable {
+
+    private static final ThreadLocal<Boolean> PINNED = new ThreadLocal<>();
+
+    private final HikariDataSource primary;
+    private final HikariDataSource replica;
+
+    public ReadWriteRoutingDataSource(HikariDataSource primary, HikariDataSource replica) {
+        super(new Router(primary, replica));
+        this.primary = primary;
+        this.replica = replica;
+    }
+
+    /**
+     * Routes this thread's reads to the primary until the returned pin is closed.
+     */
+    public static Pin pinToPrimary() {
+        boolean alreadyPinned = PINNED.get() != null;
+        PINNED.set(Boolean.TRUE);
+        return () -> {
+            if (!alreadyPinned) {
+                PINNED.remove();
+            }
+        };
+    }
+
+    /**
+     * The pool unpinned read-only transactions draw from.
+     */
+    public HikariDataSource replicaPool() {
+        return replica;
+    }
+
+    @Override
+    public void close() {
+        replica.close();
+        primary.close();
+    }
+
+    @FunctionalInterface
+    public interface Pin extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+
+    enum Target {
+        PRIMARY,
+        REPLICA
+    }
+
+    private static final class Router extends AbstractRoutingDataSource {
+
+        Router(DataSource primary, DataSource replica) {
+            setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+            setDefaultTargetDataSource(primary);
+            afterPropertiesSet();
+        }
+
+        @Override
+        protected Object determineCurrentLookupKey() {
+            boolean readOnly = TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+            return readOnly && PINNED.get() == null ? Target.REPLICA : Target.PRIMARY;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.todo.config;
+
+import com.example.todo.application.port.in.AuthenticatedUser;
+import java.util.Optional;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+/**
+ * Marks users as recent writers after any {@code TodoCommandService} call and pins their
+ * {@code TodoQueryService} calls to the primary while the mark lasts. Delta sync always reads
+ * the primary: its token is derived from the primary's clock, so a lagging replica would let the
+ * token move past changes it has not replayed yet. Ordered outside the transaction advice so the
+ * pin is in place before a connection is chosen.
+ */
+@Aspect
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+public class ReadYourWritesAspect {
+
+    private final ReadYourWritesGuard guard;
+
+    public ReadYourWritesAspect(ReadYourWritesGuard guard) {
+        this.guard = guard;
+    }
+
+    @Around("execution(public * com.example.todo.application.service.TodoCommandService.*(..))")
+    public Object recordWrite(ProceedingJoinPoint joinPoint) throws Throwable {
+        try {
+            return joinPoint.proceed();
+        } finally {
+            caller(joinPoint).ifPresent(user -> guard.recordWrite(user.uid()));
+        }
+    }
+
+    @Around("execution(public * com.example.todo.application.service.TodoQueryService.*(..))")
+    public Object routeRead(ProceedingJoinPoint joinPoint) throws Throwable {
+        Optional<AuthenticatedUser> user = caller(joinPoint);
+        if (user.isEmpty() || !guard.wroteRecently(user.get().uid())) {
+            return joinPoint.proceed();
+        }
+        try (ReadWriteRoutingDataSource.Pin pin = ReadWriteRoutingDataSource.pinToPrimary()) {
+            return joinPoint.proceed();
+        }
+    }
+
+    @Around("execution(public * com.example.todo.application.service.TodoQueryService.getChanges(..))")
+    public Object readChangesFromPrimary(ProceedingJoinPoint joinPoint) throws Throwable {
+        try (ReadWriteRoutingDataSource.Pin pin = ReadWriteRoutingDataSource.pinToPrimary()) {
+            return joinPoint.proceed();
+        }
+    }
+
+    private static Optional<AuthenticatedUser> caller(ProceedingJoinPoint joinPoint) {
+        for (Object arg : joinPoint.getArgs()) {
+            if (arg instanceof AuthenticatedUser user) {
+                return Optional.of(user);
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.todo.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import java.time.Duration;
+
+/**
+ * Remembers which users wrote within the last {@code stickyWindow}, so their reads can stay on the
+ * primary until replicas have had time to apply the change. The window should exceed the
+ * replicas' normal replay lag. State is per instance and size-bounded.
+ */
+public class ReadYourWritesGuard {
+
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReadYourWritesGuard(Duration stickyWindow, long maximumUsers) {
+        this(stickyWindow, maximumUsers, Ticker.systemTicker());
+    }
+
+    ReadYourWritesGuard(Duration stickyWindow, long maximumUsers, Ticker ticker) {
+        this.recentWriters = Caffeine.newBuilder()
+            .maximumSize(maximumUsers)
+            .expireAfterWrite(stickyWindow)
+            .ticker(ticker)
+            .build();
+    }
+
+    public void recordWrite(String uid) {
+        recentWriters.put(uid, Boolean.TRUE);
+    }
+
+    public boolean wroteRecently(String uid) {
+        return recentWriters.getIfPresent(uid) != null;
+    }
+}
@@ -1,7 +1,11 @@
 package com.example.todo.config;
 
 import com.example.todo.adapter.out.auth.FirebaseTokenVerifier;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
 import java.time.Clock;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -19,20 +23,45 @@ public class SecurityConfig {
     }
 
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
-        FirebaseAuthenticationFilter authenticationFilter = new FirebaseAuthenticationFilter(tokenVerifier);
+    public SecurityFilterChain securityFilterChain(HttpSecurity http,
+                                                   VerifiedTokenCache tokenCache,
+                                                   UserRequestLimiter requestLimiter,
+                                                   @Value("${todo.rate-limit.enabled:true}") boolean rateLimitEnabled,
+                                                   MeterRegistry meterRegistry) throws Exception {
+        FirebaseAuthenticationFilter authenticationFilter = new FirebaseAuthenticationFilter(tokenVerifier, tokenCache, meterRegistry);
 
         http
             .csrf(csrf -> csrf.disable())
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authorizeHttpRequests(registry -> registry
-                .requestMatchers("/actuator/health").permitAll()
+                // Async dispatches only finish requests (e.g. SSE streams) that were authorized on entry.
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+                // Actuator is served on management.server.port, which is not published with the API.
+                .requestMatchers("/actuator/health", "/actuator/metrics/**", "/actuator/prometheus").permitAll()
                 .requestMatchers("/api/**").authenticated()
                 .anyRequest().denyAll())
             .addFilterBefore(authenticationFilter, UsernamePasswordAuthenticationFilter.class);
+        if (rateLimitEnabled) {
+            http.addFilterAfter(new UserRateLimitFilter(requestLimiter, meterRegistry), FirebaseAuthenticationFilter.class);
+        }
         return http.build();
     }
 
+    @Bean
+    public VerifiedTokenCache verifiedTokenCache(@Value("${todo.auth.token-cache.maximum-size:100000}") long maximumSize,
+                                                 @Value("${todo.auth.token-cache.max-ttl:5m}") Duration maxTtl,
+                                                 Clock clock) {
+        return new VerifiedTokenCache(maximumSize, maxTtl, clock);
+    }
+
+    @Bean
+    public UserRequestLimiter userRequestLimiter(@Value("${todo.rate-limit.requests-per-second:20}") double requestsPerSecond,
+                                                 @Value("${todo.rate-limit.burst:40}") int burst,
+                                                 @Value("${todo.rate-limit.max-concurrent:8}") int maxConcurrent,
+                                                 @Value("${todo.rate-limit.maximum-users:1000000}") long maximumUsers) {
+        return new UserRequestLimiter(requestsPerSecond, burst, maxConcurrent, maximumUsers);
+    }
+
     @Bean
     public Clock clock() {
         return Clock.systemUTC();
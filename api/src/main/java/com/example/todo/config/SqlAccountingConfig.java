@@ -0,0 +1,44 @@
+package com.example.todo.config;
+
+import javax.sql.DataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * Wraps the application {@link DataSource} in a JDBC proxy that counts statements and JDBC time
+ * per request (see {@link SqlAccountingFilter}). Disable with
+ * {@code todo.sql-accounting.enabled=false} to take the proxy out of the JDBC path entirely.
+ *
+ * <p>Rows read are only counted in debug mode ({@code todo.sql-accounting.headers=true}): that
+ * needs every {@code ResultSet} proxied and every {@code next()} call intercepted.
+ */
+@Configuration
+@ConditionalOnProperty(name = "todo.sql-accounting.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlAccountingConfig {
+
+    @Bean
+    public static BeanPostProcessor sqlAccountingDataSourceWrapper(Environment environment) {
+        boolean countRowsRead = environment.getProperty("todo.sql-accounting.headers", Boolean.class, false);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                    SqlAccountingListener listener = new SqlAccountingListener();
+                    ProxyDataSourceBuilder builder = ProxyDataSourceBuilder.create(dataSource)
+                        .name(beanName)
+                        .listener(listener);
+                    if (countRowsRead) {
+                        builder.methodListener(listener).proxyResultSet();
+                    }
+                    return builder.build();
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.todo.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+/**
+ * Accounts the SQL issued while serving each API request and records it as
+ * {@code todo.sql.statements}, {@code todo.sql.round_trips} and {@code todo.sql.time}, tagged with
+ * the HTTP method and route. In debug mode ({@code todo.sql-accounting.headers=true}) the totals
+ * are also returned as {@code X-SQL-*} and {@code Server-Timing} headers; that mode buffers the
+ * response body, so it is not meant for production. Event streams and exports are never buffered:
+ * they are open-ended and go out while they are produced.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(name = "todo.sql-accounting.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlAccountingFilter extends OncePerRequestFilter {
+
+    public static final String STATEMENTS_HEADER = "X-SQL-Statements";
+    public static final String ROUND_TRIPS_HEADER = "X-SQL-Round-Trips";
+    public static final String ROWS_HEADER = "X-SQL-Rows";
+
+    private static final String EXPORT_PATH = "/api/todos/export";
+
+    private final MeterRegistry registry;
+    private final boolean headers;
+
+    public SqlAccountingFilter(MeterRegistry registry, @Value("${todo.sql-accounting.headers:false}") boolean headers) {
+        this.registry = registry;
+        this.headers = headers;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        return path == null || !path.startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+        throws ServletException, IOException {
+        boolean withHeaders = headers && !acceptsEventStream(request) && !isExport(request);
+        ContentCachingResponseWrapper buffered = withHeaders ? new ContentCachingResponseWrapper(response) : null;
+        SqlStatistics statistics = SqlStatistics.begin();
+        try {
+            filterChain.doFilter(request, buffered != null ? buffered : response);
+        } finally {
+            SqlStatistics.end();
+            record(request, statistics);
+            if (buffered != null) {
+                writeHeaders(buffered, statistics);
+                buffered.copyBodyToResponse();
+            }
+        }
+    }
+
+    private void record(HttpServletRequest request, SqlStatistics statistics) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern == null ? "UNKNOWN" : pattern.toString();
+        String method = request.getMethod().toUpperCase(Locale.ROOT);
+        DistributionSummary.builder("todo.sql.statements")
+            .description("SQL statements issued per request")
+            .tags("method", method, "uri", uri)
+            .register(registry)
+            .record(statistics.statements());
+        DistributionSummary.builder("todo.sql.round_trips")
+            .description("JDBC executions per request; a batch counts once")
+            .tags("method", method, "uri", uri)
+            .register(registry)
+            .record(statistics.roundTrips());
+        Timer.builder("todo.sql.time")
+            .description("Time spent executing SQL per request")
+            .tags("method", method, "uri", uri)
+            .register(registry)
+            .record(statistics.nanos(), TimeUnit.NANOSECONDS);
+    }
+
+    private static void writeHeaders(HttpServletResponse response, SqlStatistics statistics) {
+        response.setHeader(STATEMENTS_HEADER, Long.toString(statistics.statements()));
+        response.setHeader(ROUND_TRIPS_HEADER, Long.toString(statistics.roundTrips()));
+        response.setHeader(ROWS_HEADER, Long.toString(statistics.rows()));
+        response.setHeader("Server-Timing", String.format(Locale.ROOT, "db;dur=%.3f;desc=\"%d statements\"",
+            statistics.nanos() / 1_000_000.0, statistics.statements()));
+    }
+
+    private static boolean isExport(HttpServletRequest request) {
+        return EXPORT_PATH.equals(request.getRequestURI());
+    }
+
+    private static boolean acceptsEventStream(HttpServletRequest request) {
+        String accept = request.getHeader("Accept");
+        return accept != null && accept.contains(MediaType.TEXT_EVENT_STREAM_VALUE);
+    }
+}
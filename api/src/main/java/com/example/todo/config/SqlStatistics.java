@@ -0,0 +1,60 @@
+package com.example.todo.config;
+
+/**
+ * SQL work done on one thread while a request is being served. Statements count each statement
+ * in a JDBC batch, round trips count each execute call, rows count rows changed plus, in debug
+ * mode, rows read.
+ */
+public final class SqlStatistics {
+
+    private static final ThreadLocal<SqlStatistics> CURRENT = new ThreadLocal<>();
+
+    private long statements;
+    private long roundTrips;
+    private long rows;
+    private long nanos;
+
+    /**
+     * Starts accounting on the calling thread and returns the fresh statistics.
+     */
+    public static SqlStatistics begin() {
+        SqlStatistics statistics = new SqlStatistics();
+        CURRENT.set(statistics);
+        return statistics;
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    static SqlStatistics current() {
+        return CURRENT.get();
+    }
+
+    void recordExecution(int statementCount, long rowCount, long elapsedNanos) {
+        statements += statementCount;
+        roundTrips++;
+        rows += rowCount;
+        nanos += elapsedNanos;
+    }
+
+    void recordRowRead() {
+        rows++;
+    }
+
+    public long statements() {
+        return statements;
+    }
+
+    public long roundTrips() {
+        return roundTrips;
+    }
+
+    public long rows() {
+        return rows;
+    }
+
+    public long nanos() {
+        return nanos;
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.todo.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/**
+ * Applies {@link UserRequestLimiter} to authenticated API requests, so one client cannot hold
+ * every database connection. Runs right after {@link FirebaseAuthenticationFilter}; rejected
+ * requests get 429 with {@code Retry-After} and never reach the application layer.
+ */
+public class UserRateLimitFilter extends OncePerRequestFilter {
+
+    private final UserRequestLimiter limiter;
+    private final Counter rateRejections;
+    private final Counter concurrencyRejections;
+
+    public UserRateLimitFilter(UserRequestLimiter limiter, MeterRegistry meterRegistry) {
+        this.limiter = limiter;
+        this.rateRejections = rejectionCounter(meterRegistry, "rate");
+        this.concurrencyRejections = rejectionCounter(meterRegistry, "concurrency");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+        throws ServletException, IOException {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof FirebaseUserPrincipal principal)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        UserRequestLimiter.Admission admission = limiter.tryAcquire(principal.uid());
+        if (!admission.granted()) {
+            (admission.rejection().orElseThrow() == UserRequestLimiter.Rejection.RATE ? rateRejections : concurrencyRejections).increment();
+            response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(admission.retryAfterSeconds()));
+            response.sendError(HttpStatus.TOO_MANY_REQUESTS.value(), "Too many requests");
+            return;
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            // For SSE the initial dispatch returns once the stream is open, so open streams hold no slot.
+            admission.release();
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        return path == null || !path.startsWith("/api/");
+    }
+
+    private static Counter rejectionCounter(MeterRegistry registry, String reason) {
+        return Counter.builder("todo.rate_limit.rejections")
+            .description("Requests rejected with 429")
+            .tag("reason", reason)
+            .register(registry);
+    }
+}
@@ -0,0 +1,151 @@
+package com.example.todo.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-user admission control: a token bucket for request rate and a cap on requests in flight.
+ * Each user's state lives in its own pair of atomics, so users never contend with each other and
+ * a request costs one CAS on the rate side. The bucket is kept as a single "theoretical arrival
+ * time" (GCRA), which behaves exactly like a token bucket refilled at {@code rate} with room for
+ * {@code burst} requests. Idle users are evicted and the table is size-bounded; an evicted user
+ * simply starts again with a full bucket.
+ */
+public class UserRequestLimiter {
+
+    private final Cache<String, Bucket> buckets;
+    private final Ticker ticker;
+    private final long emissionIntervalNanos;
+    private final long burstNanos;
+    private final int maxConcurrent;
+
+    public UserRequestLimiter(double requestsPerSecond, int burst, int maxConcurrent, long maximumUsers) {
+        this(requestsPerSecond, burst, maxConcurrent, maximumUsers, Ticker.systemTicker());
+    }
+
+    UserRequestLimiter(double requestsPerSecond, int burst, int maxConcurrent, long maximumUsers, Ticker ticker) {
+        if (requestsPerSecond <= 0 || burst < 1 || maxConcurrent < 1) {
+            throw new IllegalArgumentException("Rate, burst and concurrency limits must be positive");
+        }
+        this.ticker = ticker;
+        this.emissionIntervalNanos = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / requestsPerSecond));
+        this.burstNanos = emissionIntervalNanos * burst;
+        this.maxConcurrent = maxConcurrent;
+        // A bucket untouched for longer than its refill time is indistinguishable from a new one.
+        Duration idle = Duration.ofNanos(Math.max(burstNanos, TimeUnit.MINUTES.toNanos(1)));
+        this.buckets = Caffeine.newBuilder()
+            .maximumSize(maximumUsers)
+            .expireAfterAccess(idle)
+            .ticker(ticker)
+            .build();
+    }
+
+    /**
+     * Tries to admit one request for {@code uid}. A granted admission holds a concurrency slot
+     * that must be given back with {@link Admission#release()}. A rejected request costs no token.
+     */
+    public Admission tryAcquire(String uid) {
+        long now = ticker.read();
+        Bucket bucket = buckets.get(uid, key -> new Bucket(now));
+        // The slot is checked first: taking a token is not undoable once later requests took theirs.
+        if (!bucket.tryEnter(maxConcurrent)) {
+            return new Admission(bucket, Optional.of(Rejection.CONCURRENCY), Duration.ofSeconds(1));
+        }
+        long waitNanos = bucket.tryConsume(now, emissionIntervalNanos, burstNanos);
+        if (waitNanos > 0) {
+            bucket.exit();
+            return new Admission(bucket, Optional.of(Rejection.RATE), Duration.ofNanos(waitNanos));
+        }
+        return new Admission(bucket, Optional.empty(), Duration.ZERO);
+    }
+
+    public enum Rejection {
+        RATE,
+        CONCURRENCY
+    }
+
+    public static final class Admission {
+
+        private final Bucket bucket;
+        private final Optional<Rejection> rejection;
+        private final Duration retryAfter;
+
+        private Admission(Bucket bucket, Optional<Rejection> rejection, Duration retryAfter) {
+            this.bucket = bucket;
+            this.rejection = rejection;
+            this.retryAfter = retryAfter;
+        }
+
+        public boolean granted() {
+            return rejection.isEmpty();
+        }
+
+        public Optional<Rejection> rejection() {
+            return rejection;
+        }
+
+        /**
+         * How long the client should wait before retrying, rounded up to whole seconds as
+         * {@code Retry-After} requires.
+         */
+        public long retryAfterSeconds() {
+            long seconds = retryAfter.toSeconds();
+            return retryAfter.toNanosPart() > 0 ? seconds + 1 : Math.max(1, seconds);
+        }
+
+        public void release() {
+            if (granted()) {
+                bucket.exit();
+            }
+        }
+    }
+
+    private static final class Bucket {
+
+        private final AtomicLong theoreticalArrival;
+        private final AtomicInteger inFlight = new AtomicInteger();
+
+        Bucket(long now) {
+            this.theoreticalArrival = new AtomicLong(now);
+        }
+
+        /**
+         * Returns 0 when a token was taken, otherwise how long until one becomes available.
+         */
+        long tryConsume(long now, long emissionInterval, long burst) {
+            while (true) {
+                long arrival = theoreticalArrival.get();
+                long next = Math.max(arrival, now) + emissionInterval;
+                long excess = next - now - burst;
+                if (excess > 0) {
+                    return excess;
+                }
+                if (theoreticalArrival.compareAndSet(arrival, next)) {
+                    return 0;
+                }
+            }
+        }
+
+        boolean tryEnter(int maxConcurrent) {
+            while (true) {
+                int current = inFlight.get();
+                if (current >= maxConcurrent) {
+                    return false;
+                }
+                if (inFlight.compareAndSet(current, current + 1)) {
+                    return true;
+                }
+            }
+        }
+
+        void exit() {
+            inFlight.decrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.todo.config;
+
+import com.example.todo.adapter.out.auth.FirebaseUser;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Remembers tokens that already passed verification so repeat requests from the same session
+ * skip signature checks. Entries live until the token's {@code exp} claim, capped at
+ * {@code maxTtl}, and the cache is size-bounded. Tokens are keyed by a SHA-256 prefix so raw
+ * credentials are never retained; failed verifications are not cached.
+ */
+public class VerifiedTokenCache {
+
+    private final Cache<TokenHash, FirebaseUser> cache;
+    private final Clock clock;
+    private final Duration maxTtl;
+
+    public VerifiedTokenCache(long maximumSize, Duration maxTtl, Clock clock) {
+        this(maximumSize, maxTtl, clock, Ticker.systemTicker());
+    }
+
+    VerifiedTokenCache(long maximumSize, Duration maxTtl, Clock clock, Ticker ticker) {
+        this.clock = clock;
+        this.maxTtl = maxTtl;
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .expireAfter(new Expiry<TokenHash, FirebaseUser>() {
+                @Override
+                public long expireAfterCreate(TokenHash key, FirebaseUser user, long currentTime) {
+                    return lifetime(user).toNanos();
+                }
+
+                @Override
+                public long expireAfterUpdate(TokenHash key, FirebaseUser user, long currentTime, long currentDuration) {
+                    return lifetime(user).toNanos();
+                }
+
+                @Override
+                public long expireAfterRead(TokenHash key, FirebaseUser user, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .ticker(ticker)
+            .build();
+    }
+
+    public Optional<FirebaseUser> get(String token, Function<String, Optional<FirebaseUser>> verifier) {
+        TokenHash key = TokenHash.of(token);
+        FirebaseUser cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        Optional<FirebaseUser> verified = verifier.apply(token);
+        verified.filter(user -> !lifetime(user).isZero()).ifPresent(user -> cache.put(key, user));
+        return verified;
+    }
+
+    private Duration lifetime(FirebaseUser user) {
+        Instant now = clock.instant();
+        Duration untilExpiry = user.expiresAt().map(exp -> Duration.between(now, exp)).orElse(maxTtl);
+        if (untilExpiry.isNegative()) {
+            return Duration.ZERO;
+        }
+        return untilExpiry.compareTo(maxTtl) < 0 ? untilExpiry : maxTtl;
+    }
+
+    private record TokenHash(long high, long low) {
+
+        static TokenHash of(String token) {
+            try {
+                byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+                ByteBuffer buffer = ByteBuffer.wrap(digest);
+                return new TokenHash(buffer.getLong(), buffer.getLong());
+            } catch (NoSuchAlgorithmException ex) {
+                throw new IllegalStateException("SHA-256 not available", ex);
+            }
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.todo.domain.event;
+
+import com.example.todo.domain.model.TodoId;
+import com.example.todo.domain.model.UserId;
+import java.time.Instant;
+import java.util.Objects;
+
+public record TodoDeleted(TodoId todoId, UserId userId, Instant occurredAt) implements TodoEvent {
+
+    public TodoDeleted {
+        Objects.requireNonNull(todoId, "todoId");
+        Objects.requireNonNull(userId, "userId");
+        Objects.requireNonNull(occurredAt, "occurredAt");
+    }
+}
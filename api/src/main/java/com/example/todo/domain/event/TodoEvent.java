@@ -0,0 +1,18 @@
+package com.example.todo.domain.event;
+
+import com.example.todo.domain.model.TodoId;
+import com.example.todo.domain.model.UserId;
+import java.time.Instant;
+
+/**
+ * Something that happened to a user's todo. Created and updated events carry the resulting
+ * state so subscribers never have to query for it.
+ */
+public sealed interface TodoEvent permits TodoCreated, TodoUpdated, TodoDeleted {
+
+    UserId userId();
+
+    TodoId todoId();
+
+    Instant occurredAt();
+}
@@ -0,0 +1,25 @@
+package com.example.todo.domain.event;
+
+import com.example.todo.domain.model.Todo;
+import com.example.todo.domain.model.TodoId;
+import com.example.todo.domain.model.UserId;
+import java.time.Instant;
+import java.util.Objects;
+
+public record TodoUpdated(Todo todo, Instant occurredAt) implements TodoEvent {
+
+    public TodoUpdated {
+        Objects.requireNonNull(todo, "todo");
+        Objects.requireNonNull(occurredAt, "occurredAt");
+    }
+
+    @Override
+    public UserId userId() {
+        return todo.userId();
+    }
+
+    @Override
+    public TodoId todoId() {
+        return todo.id();
+    }
+}
@@ -55,6 +55,20 @@ public final class Todo {
         return new Todo(id, userId, title, dueDate, done, createdAt, now);
     }
 
+    public Todo apply(TodoChanges changes, Instant now) {
+        Todo updated = this;
+        if (changes.title().isPresent()) {
+            updated = updated.withTitle(changes.title().get(), now);
+        }
+        if (changes.dueDate().isPresent()) {
+            updated = updated.withDueDate(changes.dueDate().get(), now);
+        }
+        if (changes.done().isPresent()) {
+            updated = updated.withDone(changes.done().get(), now);
+        }
+        return updated;
+    }
+
     public TodoId id() {
         return id;
     }
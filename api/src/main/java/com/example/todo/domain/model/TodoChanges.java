@@ -0,0 +1,20 @@
+package com.example.todo.domain.model;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Validated partial update of a Todo. Absent fields are left untouched.
+ */
+public record TodoChanges(Optional<Title> title, Optional<DueDate> dueDate, Optional<Boolean> done) {
+
+    public TodoChanges {
+        Objects.requireNonNull(title, "title");
+        Objects.requireNonNull(dueDate, "dueDate");
+        Objects.requireNonNull(done, "done");
+    }
+
+    public boolean isEmpty() {
+        return title.isEmpty() && dueDate.isEmpty() && done.isEmpty();
+    }
+}
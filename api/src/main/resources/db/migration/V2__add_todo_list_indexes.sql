@@ -0,0 +1,12 @@
+-- List reads filter on user_id (optionally done) and walk rows in (created_at DESC, id DESC)
+-- keyset order, so the indexes carry the full sort key and Postgres never sorts in memory.
+CREATE INDEX IF NOT EXISTS idx_todos_user_created
+    ON todos (user_id, created_at DESC, id DESC);
+
+-- Status-filtered reads. Kept as a plain composite rather than two partial indexes on done,
+-- because done arrives as a bind parameter and a generic plan cannot prove a partial predicate.
+CREATE INDEX IF NOT EXISTS idx_todos_user_done_created
+    ON todos (user_id, done, created_at DESC, id DESC);
+
+-- Superseded by the leading user_id column of idx_todos_user_created.
+DROP INDEX IF EXISTS idx_todos_user_id;
@@ -0,0 +1,11 @@
+-- Delta sync reads a user's todos changed after a timestamp.
+CREATE INDEX IF NOT EXISTS idx_todos_user_updated ON todos (user_id, updated_at);
+
+-- Hard deletes leave a tombstone so clients can sync removals; rows expire after the retention window.
+CREATE TABLE IF NOT EXISTS todo_tombstones (
+    todo_id UUID PRIMARY KEY,
+    user_id VARCHAR(128) NOT NULL,
+    deleted_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_todo_tombstones_user_deleted ON todo_tombstones (user_id, deleted_at);
@@ -0,0 +1,11 @@
+-- Todo events written in the same transaction as the todos change, drained by the outbox relay.
+CREATE SEQUENCE IF NOT EXISTS todo_outbox_seq INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS todo_outbox (
+    id BIGINT PRIMARY KEY,
+    event_type VARCHAR(32) NOT NULL,
+    todo_id UUID NOT NULL,
+    user_id VARCHAR(128) NOT NULL,
+    occurred_at TIMESTAMP WITH TIME ZONE NOT NULL,
+    payload VARCHAR(2000) NOT NULL
+);
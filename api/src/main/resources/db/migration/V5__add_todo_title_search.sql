@@ -0,0 +1,8 @@
+-- Title search: lower(title) LIKE '%term%' scoped to one user. btree_gin lets user_id share the
+-- GIN index with the trigram column, so Postgres intersects both conditions in a single
+-- bitmap scan instead of walking all of a user's rows. Both extensions are trusted (PG 13+).
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE EXTENSION IF NOT EXISTS btree_gin;
+
+CREATE INDEX IF NOT EXISTS idx_todos_user_title_trgm
+    ON todos USING gin (user_id, lower(title) gin_trgm_ops);
@@ -0,0 +1,10 @@
+-- sort=due walks (due_date ASC NULLS LAST, id ASC); a plain ascending btree already places NULLs
+-- last, so these serve the order directly. The done variant also serves overdue and due date
+-- range reads on active todos.
+CREATE INDEX IF NOT EXISTS idx_todos_user_due ON todos (user_id, due_date, id);
+CREATE INDEX IF NOT EXISTS idx_todos_user_done_due ON todos (user_id, done, due_date, id);
+
+-- sort=updated pages by (updated_at DESC, id DESC) and delta sync by (updated_at, id) ascending;
+-- carrying id lets both read the index in order without an incremental sort.
+CREATE INDEX IF NOT EXISTS idx_todos_user_updated_id ON todos (user_id, updated_at, id);
+DROP INDEX IF EXISTS idx_todos_user_updated;
@@ -1,17 +1,24 @@
 package com.example.todo.adapter.in.web;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.example.todo.adapter.out.auth.FirebaseTokenVerifier;
 import com.example.todo.adapter.out.auth.FirebaseUser;
+import com.example.todo.config.SqlAccountingFilter;
+import com.example.todo.support.SqlStatements;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.Optional;
+import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -19,6 +26,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
@@ -53,6 +61,8 @@ class TodoControllerIntegrationTest {
                 .header("Authorization", "Bearer token")
                 .content(objectMapper.writeValueAsString(request)))
             .andExpect(status().isCreated())
+            // A todo row and its outbox event.
+            .andExpect(SqlStatements.issuedAtMost(2 + SqlStatements.OUTBOX_SEQUENCE_REFILL))
             .andReturn()
             .getResponse()
             .getContentAsString();
@@ -73,6 +83,305 @@ class TodoControllerIntegrationTest {
                 .header("Authorization", "Bearer token")
                 .content(objectMapper.writeValueAsString(updateRequest)))
             .andExpect(status().isOk())
+            // UPDATE, then SELECT on H2 (RETURNING on PostgreSQL), and the outbox event.
+            .andExpect(SqlStatements.issuedAtMost(3 + SqlStatements.OUTBOX_SEQUENCE_REFILL))
             .andExpect(jsonPath("$.title").value("Updated"));
     }
+
+    @Test
+    void listIsPagedWithOpaqueCursor() throws Exception {
+        when(tokenVerifier.verify(eq("paging-token"))).thenReturn(Optional.of(new FirebaseUser("user-paging")));
+        for (int i = 0; i < 3; i++) {
+            CreateTodoRequest request = new CreateTodoRequest();
+            request.setTitle("Paged " + i);
+            mockMvc.perform(post("/api/todos")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .header("Authorization", "Bearer paging-token")
+                    .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated());
+        }
+
+        String cursor = mockMvc.perform(get("/api/todos")
+                .param("limit", "2")
+                .header("Authorization", "Bearer paging-token"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(2))
+            .andExpect(header().exists(TodoController.NEXT_CURSOR_HEADER))
+            .andReturn()
+            .getResponse()
+            .getHeader(TodoController.NEXT_CURSOR_HEADER);
+
+        mockMvc.perform(get("/api/todos")
+                .param("limit", "2")
+                .param("cursor", cursor)
+                .header("Authorization", "Bearer paging-token"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(1))
+            .andExpect(header().doesNotExist(TodoController.NEXT_CURSOR_HEADER));
+
+        mockMvc.perform(get("/api/todos")
+                .param("cursor", "not-a-cursor")
+                .header("Authorization", "Bearer paging-token"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void unchangedListIsAnsweredWithNotModified() throws Exception {
+        when(tokenVerifier.verify(eq("etag-token"))).thenReturn(Optional.of(new FirebaseUser("user-etag")));
+        CreateTodoRequest request = new CreateTodoRequest();
+        request.setTitle("Cached");
+        String created = mockMvc.perform(post("/api/todos")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("Authorization", "Bearer etag-token")
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isCreated())
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+        UUID id = objectMapper.readValue(created, TodoResponse.class).id();
+
+        // Version probe plus one page query; the 304 below must not touch the page at all.
+        String etag = mockMvc.perform(get("/api/todos")
+                .header("Authorization", "Bearer etag-token"))
+            .andExpect(status().isOk())
+            .andExpect(header().exists(HttpHeaders.ETAG))
+            .andExpect(SqlStatements.issued(2))
+            .andReturn()
+            .getResponse()
+            .getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/todos")
+                .header("Authorization", "Bearer etag-token")
+                .header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string(HttpHeaders.ETAG, etag))
+            .andExpect(SqlStatements.issued(1))
+            .andExpect(content().string(""));
+
+        mockMvc.perform(get("/api/todos")
+                .param("status", "active")
+                .header("Authorization", "Bearer etag-token")
+                .header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isOk());
+
+        UpdateTodoRequest updateRequest = new UpdateTodoRequest();
+        updateRequest.setDone(Optional.of(true));
+        mockMvc.perform(patch("/api/todos/" + id)
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("Authorization", "Bearer etag-token")
+                .content(objectMapper.writeValueAsString(updateRequest)))
+            .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/todos")
+                .header("Authorization", "Bearer etag-token")
+                .header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].done").value(true));
+    }
+
+    @Test
+    void changesEndpointReturnsUpsertsAndDeletionsSinceToken() throws Exception {
+        when(tokenVerifier.verify(eq("sync-token"))).thenReturn(Optional.of(new FirebaseUser("user-sync")));
+        String initial = mockMvc.perform(get("/api/todos/changes")
+                .header("Authorization", "Bearer sync-token"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.resetRequired").value(true))
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+        String syncToken = objectMapper.readTree(initial).get("syncToken").asText();
+
+        CreateTodoRequest request = new CreateTodoRequest();
+        request.setTitle("Synced");
+        String created = mockMvc.perform(post("/api/todos")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("Authorization", "Bearer sync-token")
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isCreated())
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+        UUID createdId = objectMapper.readValue(created, TodoResponse.class).id();
+
+        request.setTitle("Gone");
+        String doomed = mockMvc.perform(post("/api/todos")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("Authorization", "Bearer sync-token")
+                .content(objectMapper.writeValueAsString(request)))
+            .andExpect(status().isCreated())
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+        UUID doomedId = objectMapper.readValue(doomed, TodoResponse.class).id();
+        mockMvc.perform(delete("/api/todos/" + doomedId)
+                .header("Authorization", "Bearer sync-token"))
+            .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/api/todos/changes")
+                .param("since", syncToken)
+                .header("Authorization", "Bearer sync-token"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.resetRequired").value(false))
+            .andExpect(jsonPath("$.upserted.length()").value(1))
+            .andExpect(jsonPath("$.upserted[0].id").value(createdId.toString()))
+            .andExpect(jsonPath("$.deleted[0]").value(doomedId.toString()))
+            .andExpect(jsonPath("$.syncToken").isNotEmpty());
+
+        mockMvc.perform(get("/api/todos/changes")
+                .param("since", "%%%")
+                .header("Authorization", "Bearer sync-token"))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void batchAppliesOperationsInOneRequest() throws Exception {
+        when(tokenVerifier.verify(eq("batch-token"))).thenReturn(Optional.of(new FirebaseUser("user-batch")));
+
+        String created = mockMvc.perform(post("/api/todos:batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("Authorization", "Bearer batch-token")
+                .content("""
+                    {"operations":[{"op":"create","title":"One"},{"op":"create","title":"Two"},{"op":"create","title":""}]}
+                    """))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.results[0].status").value("created"))
+            .andExpect(jsonPath("$.results[1].status").value("created"))
+            .andExpect(jsonPath("$.results[2].status").value("invalid"))
+            // Both inserts go out as one JDBC batch, and so do their outbox events.
+            .andExpect(SqlStatements.issuedAtMost(4 + SqlStatements.OUTBOX_SEQUENCE_REFILL))
+            .andExpect(SqlStatements.roundTripsAtMost(2 + SqlStatements.OUTBOX_SEQUENCE_REFILL))
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+        String firstId = objectMapper.readTree(created).at("/results/0/todo/id").asText();
+
+        mockMvc.perform(post("/api/todos:batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("Authorization", "Bearer batch-token")
+                .content("""
+                    {"operations":[{"op":"update","id":"%s","done":true},{"op":"delete","id":"%s"}]}
+                    """.formatted(firstId, firstId)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.results[0].todo.done").value(true))
+            .andExpect(jsonPath("$.results[1].status").value("deleted"))
+            // One load, the tombstone prune and insert, the delete and one outbox event.
+            .andExpect(SqlStatements.issuedAtMost(5 + SqlStatements.OUTBOX_SEQUENCE_REFILL));
+
+        mockMvc.perform(post("/api/todos:batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("Authorization", "Bearer batch-token")
+                .content("""
+                    {"operations":[{"op":"archive"},{"op":"delete"},{"op":"update","id":"%s"},{"op":"create","title":"Three"}]}
+                    """.formatted(firstId)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.results[0].status").value("invalid"))
+            .andExpect(jsonPath("$.results[1].status").value("invalid"))
+            .andExpect(jsonPath("$.results[1].error").value("Operation 'delete' requires an id"))
+            .andExpect(jsonPath("$.results[2].status").value("invalid"))
+            .andExpect(jsonPath("$.results[3].status").value("created"));
+
+        mockMvc.perform(get("/api/todos")
+                .param("q", "Two")
+                .header("Authorization", "Bearer batch-token"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.length()").value(1))
+            .andExpect(jsonPath("$[0].title").value("Two"));
+    }
+
+    @Test
+    void exportStreamsTheWholeFilteredListAsOneArray() throws Exception {
+        when(tokenVerifier.verify(eq("export-token"))).thenReturn(Optional.of(new FirebaseUser("user-export")));
+        mockMvc.perform(post("/api/todos:batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("Authorization", "Bearer export-token")
+                .content("""
+                    {"operations":[{"op":"create","title":"Later","dueDate":"2030-01-02"},
+                                   {"op":"create","title":"Undated"},
+                                   {"op":"create","title":"Sooner","dueDate":"2030-01-01"}]}
+                    """))
+            .andExpect(status().isOk());
+
+        mockMvc.perform(get("/api/todos/export")
+                .param("sort", "due")
+                .header("Authorization", "Bearer export-token"))
+            .andExpect(status().isOk())
+            .andExpect(header().doesNotExist(SqlAccountingFilter.STATEMENTS_HEADER))
+            .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+            .andExpect(jsonPath("$.length()").value(3))
+            .andExpect(jsonPath("$[0].title").value("Sooner"))
+            .andExpect(jsonPath("$[0].dueDate").value("2030-01-01"))
+            .andExpect(jsonPath("$[2].title").value("Undated"))
+            .andExpect(jsonPath("$[2].dueDate").doesNotExist());
+
+        mockMvc.perform(get("/api/todos/export")
+                .param("status", "done")
+                .header("Authorization", "Bearer export-token"))
+            .andExpect(status().isOk())
+            .andExpect(content().json("[]"));
+    }
+
+    @Test
+    void exportedFilesImportIntoAnotherAccountWithAPerChunkReport() throws Exception {
+        when(tokenVerifier.verify(eq("export-source-token"))).thenReturn(Optional.of(new FirebaseUser("user-export-source")));
+        when(tokenVerifier.verify(eq("import-csv-token"))).thenReturn(Optional.of(new FirebaseUser("user-import-csv")));
+        when(tokenVerifier.verify(eq("import-ndjson-token"))).thenReturn(Optional.of(new FirebaseUser("user-import-ndjson")));
+        mockMvc.perform(post("/api/todos:batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .header("Authorization", "Bearer export-source-token")
+                .content("""
+                    {"operations":[{"op":"create","title":"Plain"},
+                                   {"op":"create","title":"Comma, \\"quoted\\"","dueDate":"2030-01-01"}]}
+                    """))
+            .andExpect(status().isOk());
+
+        String csv = mockMvc.perform(get("/api/todos/export")
+                .param("format", "csv")
+                .header("Authorization", "Bearer export-source-token"))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"todos.csv\""))
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+        assertThat(csv).startsWith(TodoExportController.CSV_HEADER + "\r\n").contains(",\"Comma, \"\"quoted\"\"\",2030-01-01,false,");
+        String ndjson = mockMvc.perform(get("/api/todos/export")
+                .param("format", "ndjson")
+                .header("Authorization", "Bearer export-source-token"))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+        assertThat(ndjson.lines()).hasSize(2);
+
+        mockMvc.perform(post("/api/todos/import")
+                .contentType(TodoImportController.TEXT_CSV_VALUE)
+                .header("Authorization", "Bearer import-csv-token")
+                .content(csv))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.imported").value(2))
+            .andExpect(jsonPath("$.failed").value(0));
+        mockMvc.perform(get("/api/todos")
+                .param("sort", "due")
+                .header("Authorization", "Bearer import-csv-token"))
+            .andExpect(jsonPath("$[0].title").value("Comma, \"quoted\""))
+            .andExpect(jsonPath("$[0].dueDate").value("2030-01-01"))
+            .andExpect(jsonPath("$[1].title").value("Plain"));
+
+        mockMvc.perform(post("/api/todos/import")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header("Authorization", "Bearer import-ndjson-token")
+                .content(ndjson + "{\"title\":\" \"}\n\nnot json\n"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.imported").value(2))
+            .andExpect(jsonPath("$.failed").value(2))
+            .andExpect(jsonPath("$.complete").value(true))
+            .andExpect(jsonPath("$.chunks.length()").value(2))
+            .andExpect(jsonPath("$.chunks[1].status").value("IMPORTED"))
+            .andExpect(jsonPath("$.chunks[1].error").doesNotExist())
+            .andExpect(jsonPath("$.chunks[0].imported").value(2))
+            .andExpect(jsonPath("$.chunks[1].firstLine").value(3))
+            .andExpect(jsonPath("$.chunks[1].lastLine").value(5))
+            .andExpect(jsonPath("$.chunks[1].errors[0].line").value(3))
+            .andExpect(jsonPath("$.chunks[1].errors[1].line").value(5))
+            .andExpect(jsonPath("$.chunks[1].errors[1].message").value("Malformed JSON"));
+    }
 }
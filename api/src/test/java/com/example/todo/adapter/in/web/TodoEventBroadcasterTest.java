@@ -0,0 +1,104 @@
+package com.example.todo.adapter.in.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.todo.domain.event.TodoCreated;
+import com.example.todo.domain.event.TodoDeleted;
+import com.example.todo.domain.model.DueDate;
+import com.example.todo.domain.model.Title;
+import com.example.todo.domain.model.Todo;
+import com.example.todo.domain.model.TodoId;
+import com.example.todo.domain.model.UserId;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+class TodoEventBroadcasterTest {
+
+    private final TodoEventBroadcaster broadcaster = new TodoEventBroadcaster(2, 2, Duration.ofMinutes(1));
+
+    @AfterEach
+    void tearDown() {
+        broadcaster.shutdown();
+    }
+
+    @Test
+    void deliversEventsOnlyToTheOwnersStreams() throws Exception {
+        UserId owner = UserId.from("owner");
+        RecordingEmitter ownerStream = new RecordingEmitter(2);
+        RecordingEmitter otherStream = new RecordingEmitter(1);
+        broadcaster.register(owner, ownerStream);
+        broadcaster.register(UserId.from("other"), otherStream);
+
+        Todo todo = Todo.create(owner, Title.from("Pushed"), DueDate.none(), Instant.now());
+        broadcaster.on(new TodoCreated(todo, Instant.now()));
+        broadcaster.on(new TodoDeleted(todo.id(), owner, Instant.now()));
+
+        assertThat(ownerStream.delivered.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(ownerStream.sent).hasSize(2);
+        assertThat(otherStream.sent).isEmpty();
+    }
+
+    @Test
+    void evictsSubscriberThatFallsBehind() throws Exception {
+        UserId owner = UserId.from("slow");
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingEmitter stuck = new RecordingEmitter(1) {
+            @Override
+            public void send(SseEventBuilder builder) {
+                awaitQuietly(release);
+                super.send(builder);
+            }
+        };
+        broadcaster.register(owner, stuck);
+
+        // One event is being sent, two fill the queue, the next one overflows it.
+        for (int i = 0; i < 4; i++) {
+            broadcaster.on(new TodoDeleted(TodoId.newId(), owner, Instant.now()));
+            Thread.sleep(20);
+        }
+
+        assertThat(broadcaster.subscriberCount(owner)).isZero();
+        release.countDown();
+    }
+
+    @Test
+    void keepsOnlyTheNewestStreamsPerUser() {
+        UserId owner = UserId.from("many-tabs");
+        for (int i = 0; i < 3; i++) {
+            broadcaster.register(owner, new RecordingEmitter(1));
+        }
+
+        assertThat(broadcaster.subscriberCount(owner)).isEqualTo(2);
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static class RecordingEmitter extends SseEmitter {
+
+        final List<SseEventBuilder> sent = new CopyOnWriteArrayList<>();
+        final CountDownLatch delivered;
+
+        RecordingEmitter(int expected) {
+            this.delivered = new CountDownLatch(expected);
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            sent.add(builder);
+            delivered.countDown();
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.todo.adapter.in.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.todo.application.command.ImportTodoCommand;
+import com.example.todo.application.port.in.ImportTodosUseCase;
+import com.example.todo.application.result.ImportChunkResult;
+import com.example.todo.common.ServiceOverloadedException;
+import com.example.todo.config.FirebaseUserPrincipal;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+class TodoImportControllerTest {
+
+    private final List<List<ImportTodoCommand>> committed = new ArrayList<>();
+
+    @Test
+    void reportsCommittedChunksWhenALaterChunkIsShed() throws IOException {
+        ImportTodosUseCase useCase = (rows, user) -> {
+            if (!committed.isEmpty()) {
+                throw new ServiceOverloadedException("Server is busy, please retry", Duration.ofSeconds(2));
+            }
+            committed.add(rows);
+            return new ImportChunkResult(rows.size(), List.of());
+        };
+        TodoImportController controller = new TodoImportController(useCase, new ObjectMapper(), 2, 20);
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/todos/import");
+        request.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        request.setContent("""
+            {"title":"One"}
+            {"title":"Two"}
+            {"title":"Three"}
+            {"title":"Four"}
+            {"title":"Five"}
+            """.getBytes(StandardCharsets.UTF_8));
+
+        ResponseEntity<TodoImportResponse> response = controller.importTodos(new FirebaseUserPrincipal("user-1"), request);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("2");
+        TodoImportResponse report = response.getBody();
+        assertThat(report.complete()).isFalse();
+        assertThat(report.imported()).isEqualTo(2);
+        assertThat(report.failed()).isEqualTo(2);
+        // The import stops at the shed chunk; the last row is never read.
+        assertThat(report.chunks()).hasSize(2);
+        assertThat(report.chunks().get(0).status()).isEqualTo(TodoImportResponse.Status.IMPORTED);
+        TodoImportResponse.Chunk shed = report.chunks().get(1);
+        assertThat(shed.status()).isEqualTo(TodoImportResponse.Status.NOT_IMPORTED);
+        assertThat(shed.firstLine()).isEqualTo(3);
+        assertThat(shed.lastLine()).isEqualTo(4);
+        assertThat(shed.error()).contains("Server is busy, please retry");
+        assertThat(committed).hasSize(1);
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.todo.adapter.in.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.todo.application.command.ImportTodoCommand;
+import com.example.todo.common.InvalidTodoRequestException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+
+class TodoImportReaderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void readsQuotedCsvFieldsAcrossLinesByColumnName() throws IOException {
+        List<TodoImportReader.Row> rows = readAll(TodoImportReader.Format.CSV, """
+            done,Title,dueDate
+            true,"Line one
+            line ""two"" here",2030-01-01
+            ,Plain,
+            maybe,Bad flag,
+            """);
+
+        assertThat(rows).extracting(TodoImportReader.Row::line).containsExactly(2, 4, 5);
+        assertThat(rows.get(0).command()).contains(
+            new ImportTodoCommand("Line one\nline \"two\" here", Optional.of(LocalDate.of(2030, 1, 1)), true, Optional.empty()));
+        assertThat(rows.get(1).command()).contains(new ImportTodoCommand("Plain", Optional.empty(), false, Optional.empty()));
+        assertThat(rows.get(2).error()).contains("done must be true or false");
+    }
+
+    @Test
+    void skipsOversizedRowsWithoutLosingTheNextOne() throws IOException {
+        String huge = "{\"title\":\"" + "x".repeat(TodoImportReader.MAX_ROW_CHARS) + "\"}";
+        List<TodoImportReader.Row> rows = readAll(TodoImportReader.Format.NDJSON, huge + "\n{\"title\":\"Next\",\"dueDate\":\"soon\"}\n");
+
+        assertThat(rows).hasSize(2);
+        assertThat(rows.get(0).error()).hasValueSatisfying(error -> assertThat(error).startsWith("Row is longer than"));
+        assertThat(rows.get(1).line()).isEqualTo(2);
+        assertThat(rows.get(1).error()).contains("dueDate must be an ISO date (yyyy-MM-dd)");
+    }
+
+    @Test
+    void skipsCsvRowsOfOnlySeparatorsWithoutKeepingTheirFields() throws IOException {
+        String separators = ",".repeat(TodoImportReader.MAX_ROW_CHARS * 4);
+        List<TodoImportReader.Row> rows = readAll(TodoImportReader.Format.CSV, "title\n" + separators + "\nNext\n");
+
+        assertThat(rows).hasSize(2);
+        assertThat(rows.get(0).error()).hasValueSatisfying(error -> assertThat(error).startsWith("Row is longer than"));
+        assertThat(rows.get(1).command()).contains(new ImportTodoCommand("Next", Optional.empty(), false, Optional.empty()));
+    }
+
+    @Test
+    void rejectsCsvWithoutTitleColumn() {
+        assertThatThrownBy(() -> readAll(TodoImportReader.Format.CSV, "name,dueDate\nTodo,\n"))
+            .isInstanceOf(InvalidTodoRequestException.class);
+    }
+
+    private List<TodoImportReader.Row> readAll(TodoImportReader.Format format, String body) throws IOException {
+        TodoImportReader reader = new TodoImportReader(new BufferedReader(new StringReader(body)), format, objectMapper);
+        List<TodoImportReader.Row> rows = new ArrayList<>();
+        for (Optional<TodoImportReader.Row> row = reader.next(); row.isPresent(); row = reader.next()) {
+            rows.add(row.get());
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.todo.adapter.out.auth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.Signature;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class FirebaseJwtVerifierTest {
+
+    private static final String PROJECT = "todo-project";
+    private static final Instant NOW = Instant.parse("2024-01-01T00:00:00Z");
+    private static final Base64.Encoder B64 = Base64.getUrlEncoder().withoutPadding();
+
+    @TempDir
+    Path tempDir;
+
+    private KeyPair keyPair;
+    private FirebaseJwtVerifier verifier;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        keyPair = generator.generateKeyPair();
+        RSAPublicKey publicKey = (RSAPublicKey) keyPair.getPublic();
+        Path jwks = tempDir.resolve("jwks.json");
+        Files.writeString(jwks, """
+            {"keys":[{"kty":"RSA","kid":"k1","alg":"RS256","use":"sig","n":"%s","e":"%s"}]}
+            """.formatted(unsigned(publicKey.getModulus()), unsigned(publicKey.getPublicExponent())));
+
+        RefreshingKeyStore store = new RefreshingKeyStore(new FilePublicKeySource(jwks), Duration.ofHours(1));
+        store.refresh();
+        verifier = new FirebaseJwtVerifier(store, PROJECT, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    void acceptsValidTokenAndExposesExpiry() throws Exception {
+        Instant exp = NOW.plusSeconds(3600);
+        String token = sign("k1", claims("uid-1", PROJECT, exp));
+
+        assertThat(verifier.verify(token)).contains(new FirebaseUser("uid-1", Optional.of(exp)));
+    }
+
+    @Test
+    void rejectsExpiredWrongAudienceUnknownKeyAndTamperedTokens() throws Exception {
+        assertThat(verifier.verify(sign("k1", claims("uid-1", PROJECT, NOW.minusSeconds(3600))))).isEmpty();
+        assertThat(verifier.verify(sign("k1", claims("uid-1", "other-project", NOW.plusSeconds(3600))))).isEmpty();
+        assertThat(verifier.verify(sign("k2", claims("uid-1", PROJECT, NOW.plusSeconds(3600))))).isEmpty();
+
+        String valid = sign("k1", claims("uid-1", PROJECT, NOW.plusSeconds(3600)));
+        String[] parts = valid.split("\\.");
+        String forgedPayload = B64.encodeToString(claims("uid-2", PROJECT, NOW.plusSeconds(3600)).getBytes(StandardCharsets.UTF_8));
+        assertThat(verifier.verify(parts[0] + "." + forgedPayload + "." + parts[2])).isEmpty();
+        assertThat(verifier.verify("uid-1")).isEmpty();
+    }
+
+    @Test
+    void rejectsMissingNonNumericAndOutOfRangeTimes() throws Exception {
+        String noIat = """
+            {"iss":"https://securetoken.google.com/%s","aud":"%s","sub":"uid-1","exp":%d}
+            """.formatted(PROJECT, PROJECT, NOW.plusSeconds(3600).getEpochSecond()).trim();
+        assertThat(verifier.verify(sign("k1", noIat))).isEmpty();
+
+        String textExp = claims("uid-1", PROJECT, NOW.plusSeconds(3600))
+            .replace("\"exp\":" + NOW.plusSeconds(3600).getEpochSecond(), "\"exp\":\"tomorrow\"");
+        assertThat(verifier.verify(sign("k1", textExp))).isEmpty();
+
+        String hugeExp = claims("uid-1", PROJECT, NOW.plusSeconds(3600))
+            .replace("\"exp\":" + NOW.plusSeconds(3600).getEpochSecond(), "\"exp\":" + Long.MAX_VALUE);
+        assertThat(verifier.verify(sign("k1", hugeExp))).isEmpty();
+    }
+
+    @Test
+    void parsesCacheControlMaxAge() {
+        assertThat(HttpPublicKeySource.maxAge(Optional.of("public, max-age=19302, must-revalidate, no-transform")))
+            .contains(Duration.ofSeconds(19302));
+        assertThat(HttpPublicKeySource.maxAge(Optional.of("no-cache"))).isEmpty();
+    }
+
+    private String claims(String subject, String audience, Instant exp) {
+        return """
+            {"iss":"https://securetoken.google.com/%s","aud":"%s","sub":"%s","iat":%d,"exp":%d}
+            """.formatted(PROJECT, audience, subject, NOW.minusSeconds(10).getEpochSecond(), exp.getEpochSecond()).trim();
+    }
+
+    private String sign(String keyId, String claims) throws Exception {
+        String header = B64.encodeToString(("{\"alg\":\"RS256\",\"kid\":\"" + keyId + "\"}").getBytes(StandardCharsets.UTF_8));
+        String payload = B64.encodeToString(claims.getBytes(StandardCharsets.UTF_8));
+        Signature signature = Signature.getInstance("SHA256withRSA");
+        signature.initSign(keyPair.getPrivate());
+        signature.update((header + "." + payload).getBytes(StandardCharsets.US_ASCII));
+        return header + "." + payload + "." + B64.encodeToString(signature.sign());
+    }
+
+    private static String unsigned(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        if (bytes[0] == 0) {
+            bytes = Arrays.copyOfRange(bytes, 1, bytes.length);
+        }
+        return B64.encodeToString(bytes);
+    }
+}
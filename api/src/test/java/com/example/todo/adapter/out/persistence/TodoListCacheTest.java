@@ -0,0 +1,95 @@
+package com.example.todo.adapter.out.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.todo.application.query.TodoQuery;
+import com.example.todo.application.result.TodoListVersion;
+import com.example.todo.application.result.TodoResult;
+import com.example.todo.domain.model.DueDate;
+import com.example.todo.domain.model.Title;
+import com.example.todo.domain.model.Todo;
+import com.example.todo.domain.model.UserId;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TodoListCacheTest {
+
+    private static final UserId USER = UserId.from("user-1");
+    private static final TodoQuery ALL = new TodoQuery(TodoQuery.Filter.ALL);
+    private static final TodoListVersion V1 = new TodoListVersion(1, Optional.of(Instant.parse("2024-01-01T00:00:00Z")));
+    private static final TodoListVersion V2 = new TodoListVersion(2, Optional.of(Instant.parse("2024-01-01T00:01:00Z")));
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final AtomicInteger loads = new AtomicInteger();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private TodoListCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new TodoListCache(true, 1_000, Duration.ofSeconds(30), nanos::get);
+        cache.bindTo(registry);
+    }
+
+    @Test
+    void servesRepeatedReadsFromCacheUntilInvalidated() {
+        List<TodoResult> todos = List.of(todo("A"));
+
+        cache.get(USER, ALL, 11, V1, () -> load(todos));
+        cache.get(USER, ALL, 11, V1, () -> load(todos));
+        assertThat(loads).hasValue(1);
+
+        cache.invalidate(USER);
+        cache.get(USER, ALL, 11, V1, () -> load(todos));
+        assertThat(loads).hasValue(2);
+        assertThat(registry.get("cache.gets").tag("result", "hit").functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get("cache.gets").tag("result", "miss").functionCounter().count()).isEqualTo(2);
+    }
+
+    @Test
+    void loadRacingAWriteIsNotStored() {
+        cache.get(USER, ALL, 11, V1, () -> {
+            // A write lands while this read is still querying the old rows.
+            cache.invalidate(USER);
+            return load(List.of(todo("Stale")));
+        });
+
+        cache.get(USER, ALL, 11, V1, () -> load(List.of(todo("Fresh"))));
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void pagesAreOnlyServedForTheVersionTheyWereLoadedUnder() {
+        cache.get(USER, ALL, 11, V1, () -> load(List.of(todo("A"))));
+
+        // Written through another instance, or committed after the page was stored: no local invalidation.
+        assertThat(cache.get(USER, ALL, 11, V2, () -> load(List.of(todo("A"), todo("B"))))).hasSize(2);
+        assertThat(cache.get(USER, ALL, 11, V2, () -> load(List.of()))).hasSize(2);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void expiresPagesAfterTtl() {
+        cache.get(USER, ALL, 11, V1, () -> load(List.of(todo("A"))));
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(31));
+
+        cache.get(USER, ALL, 11, V1, () -> load(List.of(todo("A"))));
+        assertThat(loads).hasValue(2);
+    }
+
+    private List<TodoResult> load(List<TodoResult> todos) {
+        loads.incrementAndGet();
+        return todos;
+    }
+
+    private static TodoResult todo(String title) {
+        return TodoResult.from(Todo.create(USER, Title.from(title), DueDate.none(), Instant.parse("2024-01-01T00:00:00Z")));
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.todo.adapter.out.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.todo.adapter.out.outbox.InMemoryOutboxSink;
+import com.example.todo.adapter.out.outbox.OutboxMessage;
+import com.example.todo.domain.event.TodoCreated;
+import com.example.todo.domain.event.TodoDeleted;
+import com.example.todo.domain.model.DueDate;
+import com.example.todo.domain.model.Title;
+import com.example.todo.domain.model.Todo;
+import com.example.todo.domain.model.UserId;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Instant;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@DataJpaTest
+@Import({TodoOutboxWriter.class, TodoOutboxRelay.class, TodoOutboxTest.Sink.class})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+@TestPropertySource(properties = "todo.outbox.relay.enabled=false")
+@ActiveProfiles("test")
+class TodoOutboxTest {
+
+    @Autowired
+    private TodoOutboxWriter writer;
+
+    @Autowired
+    private TodoOutboxRelay relay;
+
+    @Autowired
+    private TodoOutboxJpaRepository repository;
+
+    @Autowired
+    private InMemoryOutboxSink sink;
+
+    @Test
+    void relaysRecordedEventsInOrderAndRemovesThem() {
+        UserId userId = UserId.from("outbox-user");
+        Todo todo = Todo.create(userId, Title.from("Outboxed"), DueDate.none(), Instant.parse("2024-01-01T00:00:00Z"));
+        writer.on(new TodoCreated(todo, todo.createdAt()));
+        writer.on(new TodoDeleted(todo.id(), userId, todo.createdAt().plusSeconds(1)));
+
+        assertThat(relay.relayOnce()).isEqualTo(2);
+
+        assertThat(sink.messages()).extracting(OutboxMessage::type).containsExactly("TodoCreated", "TodoDeleted");
+        assertThat(sink.messages().get(0).payload())
+            .contains("\"todoId\":\"" + todo.id().value() + "\"")
+            .contains("\"title\":\"Outboxed\"");
+        assertThat(sink.messages().get(1).payload()).doesNotContain("\"todo\"");
+        assertThat(repository.count()).isZero();
+        assertThat(relay.relayOnce()).isZero();
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void refusesToRecordOutsideATransaction() {
+        Todo todo = Todo.create(UserId.from("outbox-user"), Title.from("Lost"), DueDate.none(), Instant.now());
+
+        assertThatThrownBy(() -> writer.on(new TodoCreated(todo, Instant.now())))
+            .isInstanceOf(IllegalTransactionStateException.class);
+    }
+
+    @TestConfiguration
+    static class Sink {
+
+        @Bean
+        InMemoryOutboxSink inMemoryOutboxSink() {
+            return new InMemoryOutboxSink(10);
+        }
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
@@ -2,29 +2,45 @@ package com.example.todo.adapter.out.persistence;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.example.todo.application.port.out.UpdateTodoPort;
+import com.example.todo.application.query.DueDateRange;
+import com.example.todo.application.query.SyncToken;
+import com.example.todo.application.query.TitleSearch;
+import com.example.todo.application.query.TodoCursor;
 import com.example.todo.application.query.TodoQuery;
+import com.example.todo.application.result.TodoResult;
 import com.example.todo.domain.model.DueDate;
 import com.example.todo.domain.model.Title;
 import com.example.todo.domain.model.Todo;
+import com.example.todo.domain.model.TodoChanges;
 import com.example.todo.domain.model.UserId;
+import jakarta.persistence.EntityManager;
 import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneOffset;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.test.context.ActiveProfiles;
 
-@DataJpaTest
-@Import({TodoPersistenceAdapter.class, TodoMapper.class})
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({TodoPersistenceAdapter.class, TodoMapper.class, TodoListCache.class, TodoUpdateStatement.class, TodoWriteBehindBuffer.class,
+    TodoListQuery.class, TodoBulkInsert.class})
 @ActiveProfiles("test")
 class TodoPersistenceAdapterTest {
 
     @Autowired
     private TodoPersistenceAdapter adapter;
 
+    @Autowired
+    private EntityManager entityManager;
+
     @Test
     void saveAndLoadTodo() {
         UserId userId = UserId.from("user-1");
@@ -36,6 +52,20 @@ class TodoPersistenceAdapterTest {
         assertThat(adapter.loadByIdAndUser(persisted.id(), userId)).isPresent();
     }
 
+    @Test
+    void insertIssuesASingleInsertWithoutSelectingFirst() {
+        UserId userId = UserId.from("user-6");
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        adapter.insert(Todo.create(userId, Title.from("Fresh"), DueDate.none(), Instant.now()));
+        entityManager.flush();
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
     @Test
     void loadTodosFiltersByStatus() {
         UserId userId = UserId.from("user-2");
@@ -44,12 +74,196 @@ class TodoPersistenceAdapterTest {
         adapter.save(active);
         adapter.save(done);
 
-        List<Todo> all = adapter.loadTodos(userId, TodoQuery.Filter.ALL);
-        List<Todo> activeOnly = adapter.loadTodos(userId, TodoQuery.Filter.ACTIVE);
-        List<Todo> doneOnly = adapter.loadTodos(userId, TodoQuery.Filter.DONE);
+        List<TodoResult> all = loadTodos(userId, new TodoQuery(TodoQuery.Filter.ALL), 10);
+        List<TodoResult> activeOnly = loadTodos(userId, new TodoQuery(TodoQuery.Filter.ACTIVE), 10);
+        List<TodoResult> doneOnly = loadTodos(userId, new TodoQuery(TodoQuery.Filter.DONE), 10);
 
         assertThat(all).hasSize(2);
-        assertThat(activeOnly).extracting(Todo::done).containsOnly(false);
-        assertThat(doneOnly).extracting(Todo::done).containsOnly(true);
+        assertThat(activeOnly).extracting(TodoResult::done).containsOnly(false);
+        assertThat(doneOnly).extracting(TodoResult::done).containsOnly(true);
+    }
+
+    @Test
+    void loadTodosResumesAfterCursorWithoutGapsOrDuplicates() {
+        UserId userId = UserId.from("user-3");
+        Instant base = Instant.parse("2024-01-01T00:00:00Z");
+        for (int i = 0; i < 5; i++) {
+            // Two todos share each timestamp so the id tie-breaker is exercised.
+            Instant createdAt = base.plusSeconds(i / 2);
+            adapter.save(Todo.create(userId, Title.from("Todo " + i), DueDate.none(), createdAt));
+        }
+
+        List<TodoResult> firstPage = loadTodos(userId, new TodoQuery(TodoQuery.Filter.ALL, Optional.empty(), 2), 2);
+        TodoResult last = firstPage.get(firstPage.size() - 1);
+        TodoCursor cursor = TodoCursor.decode(new TodoQuery(TodoQuery.Filter.ALL).cursorAfter(last).encode());
+        List<TodoResult> rest = loadTodos(userId, new TodoQuery(TodoQuery.Filter.ALL, Optional.of(cursor), 10), 10);
+
+        List<TodoResult> expected = loadTodos(userId, new TodoQuery(TodoQuery.Filter.ALL), 10);
+        assertThat(expected).hasSize(5);
+        assertThat(firstPage).extracting(TodoResult::id).containsExactlyElementsOf(expected.subList(0, 2).stream().map(TodoResult::id).toList());
+        assertThat(rest).extracting(TodoResult::id).containsExactlyElementsOf(expected.subList(2, 5).stream().map(TodoResult::id).toList());
+    }
+
+    @Test
+    void writesInvalidateCachedPages() {
+        UserId userId = UserId.from("user-4");
+        Todo first = adapter.save(Todo.create(userId, Title.from("First"), DueDate.none(), Instant.now()));
+        assertThat(loadTodos(userId, new TodoQuery(TodoQuery.Filter.ALL), 10)).hasSize(1);
+
+        adapter.save(Todo.create(userId, Title.from("Second"), DueDate.none(), Instant.now()));
+        assertThat(loadTodos(userId, new TodoQuery(TodoQuery.Filter.ALL), 10)).hasSize(2);
+
+        adapter.deleteByIdAndUser(first.id(), userId, Instant.now());
+        assertThat(loadTodos(userId, new TodoQuery(TodoQuery.Filter.ALL), 10))
+            .extracting(TodoResult::title)
+            .containsExactly("Second");
+    }
+
+    @Test
+    void updateAppliesOnlyProvidedFieldsAndBumpsUpdatedAtOnChange() {
+        UserId userId = UserId.from("user-5");
+        Instant createdAt = Instant.parse("2024-01-01T00:00:00Z");
+        Todo todo = adapter.save(Todo.create(userId, Title.from("Patch me"), DueDate.of(LocalDate.of(2025, 1, 1)), createdAt));
+        Instant later = createdAt.plusSeconds(60);
+
+        Optional<UpdateTodoPort.Outcome> toggled = adapter.update(todo.id(), userId,
+            new TodoChanges(Optional.empty(), Optional.empty(), Optional.of(true)), later);
+
+        assertThat(toggled).hasValueSatisfying(outcome -> {
+            Todo updated = outcome.todo();
+            assertThat(outcome.changed()).isTrue();
+            assertThat(updated.done()).isTrue();
+            assertThat(updated.title().value()).isEqualTo("Patch me");
+            assertThat(updated.dueDate()).isEqualTo(DueDate.of(LocalDate.of(2025, 1, 1)));
+            assertThat(updated.updatedAt()).isEqualTo(later);
+        });
+
+        Optional<UpdateTodoPort.Outcome> unchanged = adapter.update(todo.id(), userId,
+            new TodoChanges(Optional.empty(), Optional.of(DueDate.of(LocalDate.of(2025, 1, 1))), Optional.empty()), later.plusSeconds(60));
+        assertThat(unchanged).hasValueSatisfying(outcome -> {
+            assertThat(outcome.changed()).isFalse();
+            assertThat(outcome.todo().updatedAt()).isEqualTo(later);
+        });
+
+        assertThat(adapter.update(todo.id(), UserId.from("someone-else"),
+            new TodoChanges(Optional.empty(), Optional.empty(), Optional.of(false)), later)).isEmpty();
+    }
+
+    @Test
+    void changesSinceReportUpdatesAndDeletions() {
+        UserId userId = UserId.from("user-7");
+        Instant createdAt = Instant.parse("2024-01-01T00:00:00Z");
+        Todo kept = adapter.insert(Todo.create(userId, Title.from("Kept"), DueDate.none(), createdAt));
+        Todo removed = adapter.insert(Todo.create(userId, Title.from("Removed"), DueDate.none(), createdAt));
+        adapter.insert(Todo.create(userId, Title.from("Untouched"), DueDate.none(), createdAt));
+        Instant since = createdAt.plusSeconds(10);
+
+        adapter.update(kept.id(), userId, new TodoChanges(Optional.empty(), Optional.empty(), Optional.of(true)), since.plusSeconds(1));
+        adapter.deleteAllByIdsAndUser(List.of(removed.id()), userId, since.plusSeconds(2));
+
+        assertThat(adapter.loadUpdatedSince(userId, since, 10)).extracting(Todo::id).containsExactly(kept.id());
+        assertThat(adapter.loadDeletedSince(userId, since, 10)).containsExactly(removed.id());
+        assertThat(adapter.loadDeletedSince(UserId.from("someone-else"), since, 10)).isEmpty();
+
+        Instant muchLater = since.plus(SyncToken.RETENTION).plusSeconds(60);
+        adapter.deleteByIdAndUser(kept.id(), userId, muchLater);
+        assertThat(adapter.loadDeletedSince(userId, createdAt, 10)).containsExactly(kept.id());
+    }
+
+    @Test
+    void searchRanksTitleMatchesAndPagesThroughThem() {
+        UserId userId = UserId.from("user-8");
+        Instant createdAt = Instant.parse("2024-01-01T00:00:00Z");
+        List<String> titles = List.of("Pay invoice 100%", "Invoice", "Archive invoices", "Invoice March", "Unrelated", "reinvoice");
+        for (int i = 0; i < titles.size(); i++) {
+            adapter.insert(Todo.create(userId, Title.from(titles.get(i)), DueDate.none(), createdAt.plusSeconds(i)));
+        }
+        adapter.insert(Todo.create(UserId.from("someone-else"), Title.from("Invoice"), DueDate.none(), createdAt));
+        Optional<TitleSearch> search = Optional.of(new TitleSearch("INVOICE"));
+
+        List<TodoResult> firstPage = loadTodos(userId, new TodoQuery(TodoQuery.Filter.ALL, Optional.empty(), 2, search), 2);
+        TodoResult last = firstPage.get(firstPage.size() - 1);
+        TodoQuery next = new TodoQuery(TodoQuery.Filter.ALL, Optional.empty(), 2, search);
+        TodoCursor cursor = TodoCursor.decode(next.cursorAfter(last).encode());
+        List<TodoResult> rest = loadTodos(userId, new TodoQuery(TodoQuery.Filter.ALL, Optional.of(cursor), 10, search), 10);
+
+        assertThat(firstPage).extracting(TodoResult::title).containsExactly("Invoice", "Invoice March");
+        assertThat(rest).extracting(TodoResult::title).containsExactly("Archive invoices", "Pay invoice 100%", "reinvoice");
+        assertThat(loadTodos(userId, new TodoQuery(TodoQuery.Filter.ALL, Optional.empty(), 10,
+            Optional.of(new TitleSearch("0%"))), 10)).extracting(TodoResult::title).containsExactly("Pay invoice 100%");
+    }
+
+    @Test
+    void dueDateSortPutsUndatedLastAndPagesAcrossTheNullBoundary() {
+        UserId userId = UserId.from("user-9");
+        Instant createdAt = Instant.parse("2024-01-01T00:00:00Z");
+        LocalDate day = LocalDate.of(2024, 3, 1);
+        adapter.insert(Todo.create(userId, Title.from("Later"), DueDate.of(day.plusDays(2)), createdAt));
+        adapter.insert(Todo.create(userId, Title.from("Undated A"), DueDate.none(), createdAt));
+        adapter.insert(Todo.create(userId, Title.from("Sooner"), DueDate.of(day), createdAt));
+        adapter.insert(Todo.create(userId, Title.from("Undated B"), DueDate.none(), createdAt));
+        adapter.insert(Todo.create(userId, Title.from("Same day"), DueDate.of(day), createdAt));
+        TodoQuery query = new TodoQuery(TodoQuery.Filter.ALL, Optional.empty(), 10, Optional.empty(),
+            TodoQuery.Sort.DUE_DATE, DueDateRange.ANY);
+
+        List<TodoResult> expected = loadTodos(userId, query, 10);
+        assertThat(expected).extracting(result -> result.dueDate().orElse(null))
+            .containsExactly(day, day, day.plusDays(2), null, null);
+
+        List<TodoResult> walked = new ArrayList<>();
+        Optional<TodoCursor> after = Optional.empty();
+        do {
+            TodoQuery page = new TodoQuery(TodoQuery.Filter.ALL, after, 2, Optional.empty(), TodoQuery.Sort.DUE_DATE, DueDateRange.ANY);
+            List<TodoResult> todos = loadTodos(userId, page, 2);
+            walked.addAll(todos);
+            after = todos.size() < 2 ? Optional.empty()
+                : Optional.of(TodoCursor.decode(page.cursorAfter(todos.get(todos.size() - 1)).encode()));
+        } while (after.isPresent());
+        assertThat(walked).extracting(TodoResult::id).containsExactlyElementsOf(expected.stream().map(TodoResult::id).toList());
+    }
+
+    @Test
+    void dueRangeAndOverdueNarrowToActiveTodosDueInRange() {
+        UserId userId = UserId.from("user-10");
+        Instant createdAt = Instant.parse("2024-01-01T00:00:00Z");
+        LocalDate today = LocalDate.of(2024, 3, 10);
+        adapter.insert(Todo.create(userId, Title.from("Long overdue"), DueDate.of(today.minusDays(9)), createdAt));
+        adapter.insert(Todo.create(userId, Title.from("Overdue"), DueDate.of(today.minusDays(1)), createdAt.plusSeconds(1)));
+        adapter.insert(Todo.create(userId, Title.from("Due today"), DueDate.of(today), createdAt.plusSeconds(2)));
+        adapter.insert(Todo.create(userId, Title.from("Undated"), DueDate.none(), createdAt.plusSeconds(3)));
+        adapter.insert(Todo.create(userId, Title.from("Overdue but done"), DueDate.of(today.minusDays(2)), createdAt.plusSeconds(4))
+            .withDone(true, createdAt.plusSeconds(5)));
+
+        TodoQuery overdue = new TodoQuery(TodoQuery.Filter.OVERDUE, Optional.empty(), 10, Optional.empty(),
+            TodoQuery.Sort.DUE_DATE, DueDateRange.ANY).resolve(today).orElseThrow();
+        assertThat(loadTodos(userId, overdue, 10)).extracting(TodoResult::title)
+            .containsExactly("Long overdue", "Overdue");
+
+        DueDateRange range = new DueDateRange(Optional.of(today.minusDays(2)), Optional.of(today));
+        assertThat(loadTodos(userId, new TodoQuery(TodoQuery.Filter.ALL, Optional.empty(), 10, Optional.empty(),
+            TodoQuery.Sort.CREATED, range), 10)).extracting(TodoResult::title)
+            .containsExactly("Overdue but done", "Due today", "Overdue");
+    }
+
+    @Test
+    void updatedSortListsMostRecentlyChangedFirst() {
+        UserId userId = UserId.from("user-11");
+        Instant createdAt = Instant.parse("2024-01-01T00:00:00Z");
+        Todo first = adapter.insert(Todo.create(userId, Title.from("First"), DueDate.none(), createdAt));
+        adapter.insert(Todo.create(userId, Title.from("Second"), DueDate.none(), createdAt.plusSeconds(1)));
+        adapter.update(first.id(), userId, new TodoChanges(Optional.empty(), Optional.empty(), Optional.of(true)), createdAt.plusSeconds(60));
+        TodoQuery query = new TodoQuery(TodoQuery.Filter.ALL, Optional.empty(), 1, Optional.empty(),
+            TodoQuery.Sort.UPDATED, DueDateRange.ANY);
+
+        List<TodoResult> firstPage = loadTodos(userId, query, 1);
+        TodoQuery next = new TodoQuery(TodoQuery.Filter.ALL, Optional.of(query.cursorAfter(firstPage.get(0))), 1,
+            Optional.empty(), TodoQuery.Sort.UPDATED, DueDateRange.ANY);
+
+        assertThat(firstPage).extracting(TodoResult::title).containsExactly("First");
+        assertThat(loadTodos(userId, next, 1)).extracting(TodoResult::title).containsExactly("Second");
+    }
+
+    private List<TodoResult> loadTodos(UserId userId, TodoQuery query, int limit) {
+        return adapter.loadTodos(userId, query, limit, adapter.loadListVersion(userId));
     }
 }
@@ -0,0 +1,190 @@
+package com.example.todo.adapter.out.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.todo.application.query.DueDateRange;
+import com.example.todo.application.query.TitleSearch;
+import com.example.todo.application.query.TodoCursor;
+import com.example.todo.application.query.TodoQuery;
+import com.example.todo.domain.model.UserId;
+import jakarta.persistence.EntityManager;
+import java.sql.PreparedStatement;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import javax.sql.DataSource;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.ReflectionUtils;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Guards the list query shapes against regressing to an in-memory sort or a sequential scan.
+ * Each test loads a page through {@link TodoListQuery}, captures the statement and bind values
+ * Hibernate sent, and EXPLAINs exactly that.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(TodoQueryPlanTest.StatementCapture.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Testcontainers(disabledWithoutDocker = true)
+class TodoQueryPlanTest {
+
+    private static final UserId USER = UserId.from("user-7");
+    private static final UUID MIDDLE_ID = UUID.fromString("80000000-0000-0000-0000-000000000000");
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:14-alpine");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+        registry.add("spring.flyway.enabled", () -> "true");
+    }
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private StatementCapture statements;
+
+    @BeforeEach
+    void seed() {
+        if (jdbc.queryForObject("SELECT count(*) FROM todos", Long.class) > 0) {
+            return;
+        }
+        jdbc.execute("""
+            INSERT INTO todos (id, user_id, title, due_date, done, created_at, updated_at)
+            SELECT gen_random_uuid(), 'user-' || (n % 500), 'Todo ' || n,
+                   CASE WHEN n % 4 = 0 THEN NULL ELSE current_date + (n % 180 - 90) END, n % 3 = 0,
+                   now() - n * interval '1 second', now() - (n % 1000) * interval '1 minute'
+            FROM generate_series(1, 50000) AS n
+            """);
+        jdbc.execute("ANALYZE todos");
+    }
+
+    @Test
+    void firstPageUsesKeysetIndexWithoutSort() {
+        assertIndexOrdered(query(TodoQuery.Filter.ALL, TodoQuery.Sort.CREATED, Optional.empty()), "idx_todos_user_created");
+    }
+
+    @Test
+    void pageAfterCursorUsesKeysetIndexWithoutSort() {
+        assertIndexOrdered(query(TodoQuery.Filter.ALL, TodoQuery.Sort.CREATED, Optional.of(cursor())), "idx_todos_user_created");
+    }
+
+    @Test
+    void statusFilteredPageUsesDoneIndexWithoutSort() {
+        assertIndexOrdered(query(TodoQuery.Filter.ACTIVE, TodoQuery.Sort.CREATED, Optional.empty()), "idx_todos_user_done_created");
+        assertIndexOrdered(query(TodoQuery.Filter.DONE, TodoQuery.Sort.CREATED, Optional.of(cursor())), "idx_todos_user_done_created");
+    }
+
+    @Test
+    void dueDateSortWalksDueIndexWithoutSort() {
+        assertIndexOrdered(query(TodoQuery.Filter.ALL, TodoQuery.Sort.DUE_DATE, Optional.empty()), "idx_todos_user_due");
+        assertIndexOrdered(query(TodoQuery.Filter.ALL, TodoQuery.Sort.DUE_DATE, Optional.of(cursor())), "idx_todos_user_due");
+    }
+
+    @Test
+    void overdueUsesDoneDueIndexWithoutSort() {
+        TodoQuery overdue = query(TodoQuery.Filter.OVERDUE, TodoQuery.Sort.DUE_DATE, Optional.empty())
+            .resolve(LocalDate.now())
+            .orElseThrow();
+        assertIndexOrdered(overdue, "idx_todos_user_done_due");
+    }
+
+    @Test
+    void updatedSortWalksUpdatedIndexWithoutSort() {
+        assertIndexOrdered(query(TodoQuery.Filter.ALL, TodoQuery.Sort.UPDATED, Optional.empty()), "idx_todos_user_updated_id");
+    }
+
+    @Test
+    void titleSearchUsesTrigramIndex() {
+        TodoQuery search = new TodoQuery(TodoQuery.Filter.ALL, Optional.empty(), TodoQuery.DEFAULT_LIMIT,
+            Optional.of(new TitleSearch("odo 12")));
+        String plan = explain(search);
+        assertThat(plan).as(plan).contains("idx_todos_user_title_trgm").doesNotContain("Seq Scan");
+    }
+
+    private void assertIndexOrdered(TodoQuery query, String expectedIndex) {
+        String plan = explain(query);
+        assertThat(plan).as(plan).contains(expectedIndex);
+        assertThat(plan).as(plan).doesNotContain("Sort", "Seq Scan");
+    }
+
+    /**
+     * Loads one page the way the query service does, then replays the captured statement and its
+     * bind calls under EXPLAIN.
+     */
+    private String explain(TodoQuery query) {
+        QueryInfo statement = statements.capture(() -> new TodoListQuery(entityManager).load(USER, query, query.limit() + 1));
+        List<String> plan = jdbc.query(connection -> {
+            PreparedStatement explain = connection.prepareStatement("EXPLAIN " + statement.getQuery());
+            for (ParameterSetOperation parameter : statement.getParametersList().get(0)) {
+                ReflectionUtils.invokeMethod(parameter.getMethod(), explain, parameter.getArgs());
+            }
+            return explain;
+        }, (row, rowNum) -> row.getString(1));
+        return String.join("\n", plan);
+    }
+
+    private static TodoQuery query(TodoQuery.Filter filter, TodoQuery.Sort sort, Optional<TodoCursor> after) {
+        return new TodoQuery(filter, after, TodoQuery.DEFAULT_LIMIT, Optional.empty(), sort, DueDateRange.ANY);
+    }
+
+    private static TodoCursor cursor() {
+        Instant anHourAgo = Instant.now().minus(Duration.ofHours(1));
+        return new TodoCursor(MIDDLE_ID, anHourAgo, anHourAgo, Optional.of(LocalDate.now()), OptionalInt.empty());
+    }
+
+    /**
+     * Records the statements sent through the DataSource so a test can see the SQL Hibernate
+     * generated together with its bind values.
+     */
+    static class StatementCapture implements BeanPostProcessor {
+
+        private final List<QueryInfo> executed = new CopyOnWriteArrayList<>();
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (bean instanceof DataSource dataSource) {
+                return ProxyDataSourceBuilder.create(dataSource)
+                    .afterQuery((execution, queries) -> executed.addAll(queries))
+                    .build();
+            }
+            return bean;
+        }
+
+        QueryInfo capture(Runnable action) {
+            executed.clear();
+            action.run();
+            assertThat(executed).hasSize(1);
+            return executed.get(0);
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.example.todo.adapter.out.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.todo.application.port.out.UpdateTodoPort;
+import com.example.todo.application.query.TodoQuery;
+import com.example.todo.domain.event.TodoUpdated;
+import com.example.todo.domain.model.DueDate;
+import com.example.todo.domain.model.Title;
+import com.example.todo.domain.model.Todo;
+import com.example.todo.domain.model.TodoChanges;
+import com.example.todo.domain.model.UserId;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+// Not transactional: flushes commit in their own transaction and must see committed rows.
+@DataJpaTest(properties = {"todo.write-behind.enabled=true", "todo.write-behind.window=1h"})
+@Import({TodoPersistenceAdapter.class, TodoMapper.class, TodoListCache.class, TodoUpdateStatement.class, TodoWriteBehindBuffer.class,
+    TodoListQuery.class, TodoBulkInsert.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@ActiveProfiles("test")
+@RecordApplicationEvents
+class TodoWriteBehindBufferTest {
+
+    private static final UserId USER = UserId.from("write-behind-user");
+
+    @Autowired
+    private TodoPersistenceAdapter adapter;
+
+    @Autowired
+    private TodoWriteBehindBuffer buffer;
+
+    @Autowired
+    private TodoJpaRepository repository;
+
+    @Autowired
+    private JdbcTemplate jdbc;
+
+    @Autowired
+    private ApplicationEvents events;
+
+    @AfterEach
+    void tearDown() {
+        repository.deleteAll(repository.findAllByUserIdAndUpdatedAtAfterOrderByUpdatedAtAscIdAsc(USER.value(), Instant.EPOCH,
+            Limit.unlimited()));
+    }
+
+    @Test
+    void coalescesEditsAndFlushesMergedStateBeforeReads() {
+        Instant createdAt = Instant.parse("2024-01-01T00:00:00Z");
+        Todo todo = adapter.insert(Todo.create(USER, Title.from("Before"), DueDate.none(), createdAt));
+
+        Optional<Todo> toggled = adapter.update(todo.id(), USER, done(true), createdAt.plusSeconds(1)).map(UpdateTodoPort.Outcome::todo);
+        Optional<Todo> renamed = adapter.update(todo.id(), USER,
+                new TodoChanges(Optional.of(Title.from("After")), Optional.empty(), Optional.empty()), createdAt.plusSeconds(2))
+            .map(UpdateTodoPort.Outcome::todo);
+        Optional<UpdateTodoPort.Outcome> stale = adapter.update(todo.id(), USER, done(false), createdAt.plusMillis(500));
+
+        assertThat(toggled).hasValueSatisfying(state -> assertThat(state.done()).isTrue());
+        assertThat(renamed).hasValueSatisfying(state -> {
+            assertThat(state.done()).isTrue();
+            assertThat(state.title().value()).isEqualTo("After");
+        });
+        assertThat(stale).hasValueSatisfying(outcome -> {
+            assertThat(outcome.changed()).isFalse();
+            assertThat(outcome.todo().done()).isTrue();
+        });
+        assertThat(repository.findById(todo.id().value())).hasValueSatisfying(row -> assertThat(row.isDone()).isFalse());
+        assertThat(events.stream(TodoUpdated.class)).isEmpty();
+
+        assertThat(adapter.loadTodos(USER, new TodoQuery(TodoQuery.Filter.DONE), 10, adapter.loadListVersion(USER)))
+            .singleElement()
+            .satisfies(flushed -> {
+                assertThat(flushed.title()).isEqualTo("After");
+                assertThat(flushed.updatedAt()).isEqualTo(createdAt.plusSeconds(2));
+            });
+        assertThat(events.stream(TodoUpdated.class)).singleElement().satisfies(event -> {
+            assertThat(event.todo().title().value()).isEqualTo("After");
+            assertThat(event.occurredAt()).isEqualTo(createdAt.plusSeconds(2));
+        });
+    }
+
+    @Test
+    void keepsEditedColumnsThatANewerWriteLeftAlone() {
+        Instant createdAt = Instant.parse("2024-01-01T00:00:00Z");
+        Todo todo = adapter.insert(Todo.create(USER, Title.from("Mine"), DueDate.none(), createdAt));
+        adapter.update(todo.id(), USER,
+            new TodoChanges(Optional.of(Title.from("Renamed")), Optional.empty(), Optional.of(true)), createdAt.plusSeconds(1));
+
+        // Another instance renames the todo and sets a due date after the buffered edit was made.
+        Instant newer = createdAt.plusSeconds(2);
+        jdbc.update("UPDATE todos SET title = 'Theirs', due_date = ?, updated_at = ? WHERE id = ?",
+            LocalDate.of(2030, 1, 1), newer.atOffset(ZoneOffset.UTC), todo.id().value());
+
+        buffer.flush(USER);
+
+        assertThat(repository.findById(todo.id().value())).hasValueSatisfying(row -> {
+            assertThat(row.getTitle()).isEqualTo("Theirs");
+            assertThat(row.getDueDate()).isEqualTo(LocalDate.of(2030, 1, 1));
+            assertThat(row.isDone()).isTrue();
+            assertThat(row.getUpdatedAt()).isEqualTo(newer.plus(1, ChronoUnit.MICROS));
+        });
+        assertThat(events.stream(TodoUpdated.class)).singleElement()
+            .satisfies(event -> assertThat(event.todo().done()).isTrue());
+    }
+
+    @Test
+    void editsThatCancelOutAreNotWritten() {
+        Instant createdAt = Instant.parse("2024-01-01T00:00:00Z");
+        Todo todo = adapter.insert(Todo.create(USER, Title.from("Flip"), DueDate.none(), createdAt));
+        adapter.update(todo.id(), USER, done(true), createdAt.plusSeconds(1));
+        adapter.update(todo.id(), USER, done(false), createdAt.plusSeconds(2));
+
+        buffer.flush(USER);
+
+        assertThat(repository.findById(todo.id().value()))
+            .hasValueSatisfying(row -> assertThat(row.getUpdatedAt()).isEqualTo(createdAt));
+        assertThat(events.stream(TodoUpdated.class)).isEmpty();
+    }
+
+    @Test
+    void flushesPendingEditsOnShutdown() {
+        Todo todo = adapter.insert(Todo.create(USER, Title.from("Shutdown"), DueDate.none(), Instant.parse("2024-01-01T00:00:00Z")));
+        adapter.update(todo.id(), USER, done(true), Instant.parse("2024-01-01T00:00:01Z"));
+
+        buffer.close();
+
+        assertThat(repository.findById(todo.id().value())).hasValueSatisfying(row -> assertThat(row.isDone()).isTrue());
+    }
+
+    private static TodoChanges done(boolean done) {
+        return new TodoChanges(Optional.empty(), Optional.empty(), Optional.of(done));
+    }
+}
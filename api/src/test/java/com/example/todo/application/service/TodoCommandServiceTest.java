@@ -1,24 +1,41 @@
 package com.example.todo.application.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
+import com.example.todo.application.command.BatchTodoCommand;
 import com.example.todo.application.command.CreateTodoCommand;
 import com.example.todo.application.command.DeleteTodoCommand;
+import com.example.todo.application.command.ImportTodoCommand;
 import com.example.todo.application.command.UpdateTodoCommand;
 import com.example.todo.application.port.in.AuthenticatedUser;
 import com.example.todo.application.port.out.DeleteTodoPort;
+import com.example.todo.application.port.out.ImportTodosPort;
+import com.example.todo.application.port.out.InsertTodoPort;
 import com.example.todo.application.port.out.LoadTodoPort;
 import com.example.todo.application.port.out.SaveTodoPort;
+import com.example.todo.application.port.out.UpdateTodoPort;
+import com.example.todo.application.result.BatchOperationResult;
+import com.example.todo.application.result.ImportChunkResult;
 import com.example.todo.application.result.TodoResult;
 import com.example.todo.common.TodoNotFoundException;
+import com.example.todo.domain.event.TodoCreated;
+import com.example.todo.domain.event.TodoDeleted;
+import com.example.todo.domain.event.TodoEvent;
+import com.example.todo.domain.event.TodoUpdated;
 import com.example.todo.domain.model.DueDate;
 import com.example.todo.domain.model.Title;
 import com.example.todo.domain.model.Todo;
+import com.example.todo.domain.model.TodoChanges;
 import com.example.todo.domain.model.TodoId;
 import com.example.todo.domain.model.UserId;
 import java.time.Clock;
 import java.time.Instant;
+import java.time.LocalDate;
 import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
@@ -31,12 +48,15 @@ class TodoCommandServiceTest {
     private static final Clock FIXED_CLOCK = Clock.fixed(Instant.parse("2024-01-01T00:00:00Z"), ZoneOffset.UTC);
 
     private InMemoryTodoPersistence persistence;
+    private List<TodoEvent> events;
     private TodoCommandService service;
 
     @BeforeEach
     void setUp() {
         persistence = new InMemoryTodoPersistence();
-        service = new TodoCommandService(persistence, persistence, persistence, FIXED_CLOCK);
+        events = new ArrayList<>();
+        service = new TodoCommandService(persistence, persistence, persistence, persistence, persistence, persistence, events::add,
+            FIXED_CLOCK);
     }
 
     @Test
@@ -49,6 +69,8 @@ class TodoCommandServiceTest {
         assertThat(result.title()).isEqualTo("My first todo");
         assertThat(result.done()).isFalse();
         assertThat(persistence.todos).hasSize(1);
+        assertThat(events).singleElement().isInstanceOfSatisfying(TodoCreated.class,
+            event -> assertThat(event.todoId().value()).isEqualTo(result.id()));
     }
 
     @Test
@@ -70,6 +92,20 @@ class TodoCommandServiceTest {
 
         assertThat(result.title()).isEqualTo("After");
         assertThat(persistence.todos.get(existing.id().value()).title().value()).isEqualTo("After");
+        assertThat(events).singleElement().isInstanceOf(TodoUpdated.class);
+    }
+
+    @Test
+    void updateRepeatingStoredValuesPublishesNothing() {
+        AuthenticatedUser user = new AuthenticatedUser("user-2b");
+        Todo existing = Todo.create(user.toUserId(), Title.from("Same"), DueDate.none(), Instant.now(FIXED_CLOCK));
+        persistence.save(existing);
+
+        TodoResult result = service.update(UpdateTodoCommand.of(existing.id().value(), Optional.of("Same"), true,
+            Optional.empty(), false, Optional.of(false), true), user);
+
+        assertThat(result.title()).isEqualTo("Same");
+        assertThat(events).isEmpty();
     }
 
     @Test
@@ -81,18 +117,95 @@ class TodoCommandServiceTest {
         service.delete(new DeleteTodoCommand(existing.id().value()), user);
 
         assertThat(persistence.todos).isEmpty();
+        assertThat(events).singleElement().isEqualTo(new TodoDeleted(existing.id(), user.toUserId(), Instant.now(FIXED_CLOCK)));
+    }
+
+    @Test
+    void batchAppliesOperationsInOrderAndReportsEachOutcome() {
+        AuthenticatedUser user = new AuthenticatedUser("user-4");
+        Todo toComplete = Todo.create(user.toUserId(), Title.from("Complete me"), DueDate.none(), Instant.now(FIXED_CLOCK));
+        Todo toDelete = Todo.create(user.toUserId(), Title.from("Delete me"), DueDate.none(), Instant.now(FIXED_CLOCK));
+        persistence.save(toComplete);
+        persistence.save(toDelete);
+
+        List<BatchOperationResult> results = service.execute(new BatchTodoCommand(List.of(
+            new BatchTodoCommand.Create(new CreateTodoCommand("Imported", Optional.empty())),
+            new BatchTodoCommand.Update(UpdateTodoCommand.of(toComplete.id().value(), Optional.empty(), false,
+                Optional.empty(), false, Optional.of(true), true)),
+            new BatchTodoCommand.Delete(new DeleteTodoCommand(toDelete.id().value())),
+            new BatchTodoCommand.Delete(new DeleteTodoCommand(UUID.randomUUID())),
+            new BatchTodoCommand.Create(new CreateTodoCommand(" ", Optional.empty()))
+        )), user);
+
+        assertThat(results).extracting(BatchOperationResult::status).containsExactly(
+            BatchOperationResult.Status.CREATED,
+            BatchOperationResult.Status.UPDATED,
+            BatchOperationResult.Status.DELETED,
+            BatchOperationResult.Status.NOT_FOUND,
+            BatchOperationResult.Status.INVALID
+        );
+        assertThat(persistence.todos).hasSize(2);
+        assertThat(persistence.todos.get(toComplete.id().value()).done()).isTrue();
+        assertThat(persistence.todos).doesNotContainKey(toDelete.id().value());
     }
 
-    private static class InMemoryTodoPersistence implements SaveTodoPort, LoadTodoPort, DeleteTodoPort {
+    @Test
+    void importChunkInsertsValidRowsAndReportsTheRest() {
+        AuthenticatedUser user = new AuthenticatedUser("user-5");
+        Instant earlier = Instant.parse("2023-06-01T00:00:00Z");
+
+        ImportChunkResult result = service.importChunk(List.of(
+            new ImportTodoCommand("Carried over", Optional.of(LocalDate.of(2024, 2, 1)), true, Optional.of(earlier)),
+            new ImportTodoCommand("  ", Optional.empty(), false, Optional.empty()),
+            new ImportTodoCommand("From the future", Optional.empty(), false, Optional.of(Instant.parse("2030-01-01T00:00:00Z")))
+        ), user);
+
+        assertThat(result.imported()).isEqualTo(2);
+        assertThat(result.errors()).extracting(ImportChunkResult.RowError::index).containsExactly(1);
+        assertThat(persistence.todos.values()).extracting(todo -> todo.title().value(), Todo::done, Todo::createdAt)
+            .containsExactlyInAnyOrder(
+                tuple("Carried over", true, earlier),
+                tuple("From the future", false, Instant.now(FIXED_CLOCK)));
+        assertThat(events).hasSize(2).allSatisfy(event -> assertThat(event).isInstanceOfSatisfying(TodoCreated.class,
+            created -> assertThat(persistence.todos).containsValue(created.todo())));
+    }
+
+    private static class InMemoryTodoPersistence implements InsertTodoPort, SaveTodoPort, LoadTodoPort, UpdateTodoPort, DeleteTodoPort,
+        ImportTodosPort {
 
         private final Map<UUID, Todo> todos = new ConcurrentHashMap<>();
 
+        @Override
+        public Todo insert(Todo todo) {
+            if (todos.putIfAbsent(todo.id().value(), todo) != null) {
+                throw new IllegalStateException("Duplicate todo id " + todo.id().value());
+            }
+            return todo;
+        }
+
+        @Override
+        public List<Todo> insertAll(List<Todo> batch) {
+            batch.forEach(this::insert);
+            return batch;
+        }
+
+        @Override
+        public void importAll(UserId userId, List<Todo> batch) {
+            batch.forEach(this::insert);
+        }
+
         @Override
         public Todo save(Todo todo) {
             todos.put(todo.id().value(), todo);
             return todo;
         }
 
+        @Override
+        public List<Todo> saveAll(List<Todo> batch) {
+            batch.forEach(this::save);
+            return batch;
+        }
+
         @Override
         public Optional<Todo> loadByIdAndUser(TodoId todoId, UserId userId) {
             Todo todo = todos.get(todoId.value());
@@ -103,7 +216,31 @@ class TodoCommandServiceTest {
         }
 
         @Override
-        public void deleteByIdAndUser(TodoId todoId, UserId userId) {
+        public List<Todo> loadAllByIdsAndUser(Collection<TodoId> todoIds, UserId userId) {
+            return todoIds.stream()
+                .map(id -> loadByIdAndUser(id, userId))
+                .flatMap(Optional::stream)
+                .toList();
+        }
+
+        @Override
+        public Optional<Outcome> update(TodoId todoId, UserId userId, TodoChanges changes, Instant now) {
+            return loadByIdAndUser(todoId, userId).map(todo -> {
+                Todo updated = save(todo.apply(changes, now));
+                return new Outcome(updated, updated != todo, false);
+            });
+        }
+
+        @Override
+        public long deleteAllByIdsAndUser(Collection<TodoId> todoIds, UserId userId, Instant deletedAt) {
+            return todoIds.stream()
+                .filter(id -> loadByIdAndUser(id, userId).isPresent())
+                .filter(id -> todos.remove(id.value()) != null)
+                .count();
+        }
+
+        @Override
+        public void deleteByIdAndUser(TodoId todoId, UserId userId, Instant deletedAt) {
             Todo removed = todos.remove(todoId.value());
             if (removed == null || !removed.userId().equals(userId)) {
                 throw new TodoNotFoundException("Todo not found");
@@ -17,4 +17,22 @@ class HexagonalArchitectureTest {
                     .should()
                     .dependOnClassesThat()
                     .resideInAnyPackage(PackageRules.ADAPTER_OUT_PERSISTENCE);
+
+    @ArchTest
+    static final ArchRule application_should_not_depend_on_adapters =
+            noClasses()
+                    .that()
+                    .resideInAPackage(PackageRules.APPLICATION)
+                    .should()
+                    .dependOnClassesThat()
+                    .resideInAnyPackage(PackageRules.ADAPTER);
+
+    @ArchTest
+    static final ArchRule domain_should_not_depend_on_outer_layers =
+            noClasses()
+                    .that()
+                    .resideInAPackage(PackageRules.DOMAIN)
+                    .should()
+                    .dependOnClassesThat()
+                    .resideInAnyPackage(PackageRules.APPLICATION, PackageRules.ADAPTER);
 }
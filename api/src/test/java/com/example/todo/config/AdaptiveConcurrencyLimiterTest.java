@@ -0,0 +1,63 @@
+package com.example.todo.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.todo.config.AdaptiveConcurrencyLimiter.Admission;
+import com.example.todo.config.AdaptiveConcurrencyLimiter.Priority;
+import com.example.todo.config.AdaptiveConcurrencyLimiter.Rejection;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final AtomicLong pending = new AtomicLong();
+    private final AdaptiveConcurrencyLimiter limiter =
+        new AdaptiveConcurrencyLimiter(10, 2, 50, 0.2, 3, pending::get, nanos::get);
+
+    @Test
+    void readsLeaveTheWriteReserveFree() {
+        List<AdaptiveConcurrencyLimiter.Permit> held = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            held.add(limiter.tryAcquire(Priority.READ).permit().orElseThrow());
+        }
+
+        assertThat(limiter.tryAcquire(Priority.READ).rejection()).contains(Rejection.LIMIT);
+        assertThat(limiter.tryAcquire(Priority.WRITE).permit()).isPresent();
+        assertThat(limiter.tryAcquire(Priority.WRITE).permit()).isPresent();
+        assertThat(limiter.tryAcquire(Priority.WRITE).rejection()).contains(Rejection.LIMIT);
+    }
+
+    @Test
+    void readsAreShedWhileThreadsWaitForConnections() {
+        pending.set(4);
+
+        assertThat(limiter.tryAcquire(Priority.READ).rejection()).contains(Rejection.POOL_SATURATED);
+        assertThat(limiter.tryAcquire(Priority.WRITE).permit()).isPresent();
+    }
+
+    @Test
+    void limitGrowsWhileLatencyIsStableAndShrinksWhenItClimbs() {
+        runSaturated(200, Duration.ofMillis(10));
+        int grown = limiter.limit();
+        assertThat(grown).isGreaterThan(10);
+
+        runSaturated(5, Duration.ofMillis(80));
+        assertThat(limiter.limit()).isLessThan(grown);
+    }
+
+    private void runSaturated(int rounds, Duration latency) {
+        for (int round = 0; round < rounds; round++) {
+            List<AdaptiveConcurrencyLimiter.Permit> batch = new ArrayList<>();
+            Admission admission;
+            while ((admission = limiter.tryAcquire(Priority.WRITE)).permit().isPresent()) {
+                batch.add(admission.permit().get());
+            }
+            nanos.addAndGet(latency.toNanos());
+            batch.forEach(AdaptiveConcurrencyLimiter.Permit::complete);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.todo.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class ExportLimiterTest {
+
+    private final ExportLimiter limiter = new ExportLimiter(1, 2);
+
+    @Test
+    void oneExportPerUserUntilReleased() {
+        ExportLimiter.Admission first = limiter.tryAcquire("user-1");
+        assertThat(first.granted()).isTrue();
+
+        ExportLimiter.Admission second = limiter.tryAcquire("user-1");
+        assertThat(second.granted()).isFalse();
+        assertThat(second.rejection()).contains(ExportLimiter.Rejection.USER);
+        second.release();
+
+        first.release();
+        assertThat(limiter.tryAcquire("user-1").granted()).isTrue();
+    }
+
+    @Test
+    void exportsAcrossUsersShareTheGlobalCap() {
+        ExportLimiter.Admission first = limiter.tryAcquire("user-2");
+        limiter.tryAcquire("user-3");
+
+        ExportLimiter.Admission rejected = limiter.tryAcquire("user-4");
+        assertThat(rejected.rejection()).contains(ExportLimiter.Rejection.GLOBAL);
+        assertThat(limiter.inFlight()).isEqualTo(2);
+
+        // A global rejection gives the user's slot back too.
+        first.release();
+        assertThat(limiter.tryAcquire("user-4").granted()).isTrue();
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.todo.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.example.todo.adapter.out.auth.FirebaseTokenVerifier;
+import com.example.todo.adapter.out.auth.FirebaseUser;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@ActiveProfiles("test")
+class LayerMetricsTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private FirebaseTokenVerifier tokenVerifier;
+
+    @Test
+    void prometheusEndpointExposesLayerTimingsAndFailureCounters() throws Exception {
+        when(tokenVerifier.verify(eq("metrics-token"))).thenReturn(Optional.of(new FirebaseUser("user-metrics")));
+        mockMvc.perform(get("/api/todos").header("Authorization", "Bearer metrics-token"))
+            .andExpect(status().isOk());
+        mockMvc.perform(delete("/api/todos/" + UUID.randomUUID())
+                .header("Authorization", "Bearer metrics-token"))
+            .andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/todos"))
+            .andExpect(status().isUnauthorized());
+
+        String scrape = mockMvc.perform(get("/actuator/prometheus"))
+            .andExpect(status().isOk())
+            .andReturn()
+            .getResponse()
+            .getContentAsString();
+
+        assertThat(scrape)
+            .contains("todo_usecase_seconds_bucket{exception=\"none\",use_case=\"TodoQueryService.getTodos\"")
+            .contains("todo_port_seconds_count{exception=\"none\",port=\"LoadTodosPort.loadTodos\"}")
+            .contains("todo_auth_verification_seconds_count{outcome=\"success\"}")
+            .contains("todo_auth_failures_total{reason=\"missing_token\"} 1.0")
+            .contains("todo_not_found_total 1.0")
+            .contains("todo_list_size_count");
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.todo.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalManagementPort;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "management.server.port=0")
+@AutoConfigureObservability
+@ActiveProfiles("test")
+class ManagementPortTest {
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @LocalServerPort
+    private int apiPort;
+
+    @LocalManagementPort
+    private int managementPort;
+
+    @Test
+    void metricsAreServedOnTheManagementPortOnly() {
+        assertThat(managementPort).isNotEqualTo(apiPort);
+        assertThat(restTemplate.getForEntity("http://localhost:" + apiPort + "/actuator/prometheus", String.class).getStatusCode())
+            .isIn(HttpStatus.NOT_FOUND, HttpStatus.FORBIDDEN);
+        assertThat(restTemplate.getForEntity("http://localhost:" + managementPort + "/actuator/prometheus", String.class).getStatusCode())
+            .isEqualTo(HttpStatus.OK);
+    }
+}
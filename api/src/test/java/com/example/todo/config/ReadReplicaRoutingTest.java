@@ -0,0 +1,98 @@
+package com.example.todo.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.todo.application.command.CreateTodoCommand;
+import com.example.todo.application.port.in.AuthenticatedUser;
+import com.example.todo.application.query.SyncToken;
+import com.example.todo.application.query.TodoQuery;
+import com.example.todo.application.result.TodoPage;
+import com.example.todo.application.result.TodoResult;
+import com.example.todo.application.service.TodoCommandService;
+import com.example.todo.application.service.TodoQueryService;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * Runs the query service through JPA against two H2 databases standing in for the primary and the
+ * replica. Each database holds a row the other lacks, so the titles returned show which one served
+ * the read.
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=" + ReadReplicaRoutingTest.PRIMARY_URL,
+    "todo.datasource.replica.url=" + ReadReplicaRoutingTest.REPLICA_URL,
+    "todo.list-cache.enabled=false"
+})
+@ActiveProfiles("test")
+class ReadReplicaRoutingTest {
+
+    static final String PRIMARY_URL = "jdbc:h2:mem:replica-routing-primary;MODE=PostgreSQL;DB_CLOSE_DELAY=-1";
+    static final String REPLICA_URL = "jdbc:h2:mem:replica-routing-replica;MODE=PostgreSQL;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private TodoQueryService queryService;
+
+    @Autowired
+    private TodoCommandService commandService;
+
+    private final JdbcTemplate primary = new JdbcTemplate(new DriverManagerDataSource(PRIMARY_URL, "sa", ""));
+    private final JdbcTemplate replica = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+
+    @BeforeEach
+    void copySchemaToReplica() {
+        List<String> schema = primary.queryForList("SCRIPT NODATA", String.class);
+        replica.execute("DROP ALL OBJECTS");
+        schema.forEach(replica::execute);
+        primary.update("DELETE FROM todos");
+    }
+
+    @Test
+    void listsReadTheReplicaUntilTheUserWrites() {
+        AuthenticatedUser user = new AuthenticatedUser("routing-reader");
+        insert(primary, user, "On primary");
+        insert(replica, user, "On replica");
+
+        assertThat(titles(list(user).items())).containsExactly("On replica");
+
+        commandService.create(new CreateTodoCommand("Written", Optional.empty()), user);
+
+        assertThat(titles(list(user).items())).containsExactlyInAnyOrder("On primary", "Written");
+    }
+
+    @Test
+    void changesAreAlwaysReadFromThePrimary() {
+        AuthenticatedUser user = new AuthenticatedUser("routing-syncer");
+        insert(primary, user, "On primary");
+        insert(replica, user, "On replica");
+
+        SyncToken since = new SyncToken(Instant.now().minus(Duration.ofHours(1)));
+
+        assertThat(titles(queryService.getChanges(Optional.of(since), user).upserted()))
+            .containsExactly("On primary");
+    }
+
+    private TodoPage list(AuthenticatedUser user) {
+        return queryService.getTodos(new TodoQuery(TodoQuery.Filter.ALL), queryService.getListVersion(user), user);
+    }
+
+    private static void insert(JdbcTemplate database, AuthenticatedUser user, String title) {
+        Timestamp updatedAt = Timestamp.from(Instant.now().minus(Duration.ofMinutes(1)));
+        database.update("INSERT INTO todos (id, user_id, title, due_date, done, created_at, updated_at) VALUES (?, ?, ?, NULL, FALSE, ?, ?)",
+            UUID.randomUUID(), user.uid(), title, updatedAt, updatedAt);
+    }
+
+    private static List<String> titles(List<TodoResult> todos) {
+        return todos.stream().map(TodoResult::title).toList();
+    }
+}
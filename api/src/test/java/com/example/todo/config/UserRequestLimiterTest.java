@@ -0,0 +1,46 @@
+package com.example.todo.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class UserRequestLimiterTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final UserRequestLimiter limiter = new UserRequestLimiter(2, 3, 2, 100, nanos::get);
+
+    @Test
+    void burstIsAdmittedThenRequestsAreRefilledAtTheConfiguredRate() {
+        for (int i = 0; i < 3; i++) {
+            limiter.tryAcquire("user-1").release();
+        }
+
+        UserRequestLimiter.Admission rejected = limiter.tryAcquire("user-1");
+        assertThat(rejected.granted()).isFalse();
+        assertThat(rejected.rejection()).contains(UserRequestLimiter.Rejection.RATE);
+        assertThat(rejected.retryAfterSeconds()).isEqualTo(1);
+        assertThat(limiter.tryAcquire("user-2").granted()).isTrue();
+
+        nanos.addAndGet(Duration.ofMillis(500).toNanos());
+        assertThat(limiter.tryAcquire("user-1").granted()).isTrue();
+        assertThat(limiter.tryAcquire("user-1").granted()).isFalse();
+    }
+
+    @Test
+    void requestsInFlightAreCappedUntilReleased() {
+        UserRequestLimiter.Admission first = limiter.tryAcquire("user-3");
+        UserRequestLimiter.Admission second = limiter.tryAcquire("user-3");
+
+        UserRequestLimiter.Admission third = limiter.tryAcquire("user-3");
+        assertThat(third.granted()).isFalse();
+        assertThat(third.rejection()).contains(UserRequestLimiter.Rejection.CONCURRENCY);
+
+        first.release();
+        second.release();
+        // The rejected request took no token: one of the burst of three is still left.
+        assertThat(limiter.tryAcquire("user-3").granted()).isTrue();
+        assertThat(limiter.tryAcquire("user-3").rejection()).contains(UserRequestLimiter.Rejection.RATE);
+    }
+}
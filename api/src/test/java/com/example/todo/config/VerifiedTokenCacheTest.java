@@ -0,0 +1,60 @@
+package com.example.todo.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.todo.adapter.out.auth.FirebaseUser;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class VerifiedTokenCacheTest {
+
+    private static final Instant NOW = Instant.parse("2024-01-01T00:00:00Z");
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final AtomicInteger verifications = new AtomicInteger();
+    private final VerifiedTokenCache cache =
+        new VerifiedTokenCache(100, Duration.ofMinutes(5), Clock.fixed(NOW, ZoneOffset.UTC), nanos::get);
+
+    @Test
+    void repeatRequestsSkipVerificationUntilTokenExpires() {
+        FirebaseUser user = new FirebaseUser("user-1", Optional.of(NOW.plusSeconds(60)));
+
+        cache.get("token", token -> verify(Optional.of(user)));
+        assertThat(cache.get("token", token -> verify(Optional.of(user)))).contains(user);
+        assertThat(verifications).hasValue(1);
+
+        nanos.addAndGet(Duration.ofSeconds(61).toNanos());
+        cache.get("token", token -> verify(Optional.of(user)));
+        assertThat(verifications).hasValue(2);
+    }
+
+    @Test
+    void failedVerificationsAreNotCached() {
+        cache.get("bad", token -> verify(Optional.empty()));
+        cache.get("bad", token -> verify(Optional.empty()));
+
+        assertThat(verifications).hasValue(2);
+    }
+
+    @Test
+    void tokensWithoutExpiryAreCappedAtMaxTtl() {
+        FirebaseUser user = new FirebaseUser("user-2");
+        cache.get("token", token -> verify(Optional.of(user)));
+
+        nanos.addAndGet(Duration.ofMinutes(5).plusSeconds(1).toNanos());
+        cache.get("token", token -> verify(Optional.of(user)));
+
+        assertThat(verifications).hasValue(2);
+    }
+
+    private Optional<FirebaseUser> verify(Optional<FirebaseUser> result) {
+        verifications.incrementAndGet();
+        return result;
+    }
+}
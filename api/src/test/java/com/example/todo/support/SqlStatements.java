@@ -0,0 +1,42 @@
+package com.example.todo.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+
+import com.example.todo.config.SqlAccountingFilter;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+/**
+ * Round-trip budgets for MockMvc tests. Relies on {@code todo.sql-accounting.headers=true} in the
+ * test profile, which makes {@link SqlAccountingFilter} report each request's SQL totals.
+ */
+public final class SqlStatements {
+
+    /**
+     * Outbox ids come from a pooled sequence, so one write in fifty also fetches the next block.
+     */
+    public static final long OUTBOX_SEQUENCE_REFILL = 1;
+
+    private SqlStatements() {
+    }
+
+    public static ResultMatcher issued(long statements) {
+        return header().longValue(SqlAccountingFilter.STATEMENTS_HEADER, statements);
+    }
+
+    public static ResultMatcher issuedAtMost(long statements) {
+        return atMost(SqlAccountingFilter.STATEMENTS_HEADER, statements);
+    }
+
+    public static ResultMatcher roundTripsAtMost(long roundTrips) {
+        return atMost(SqlAccountingFilter.ROUND_TRIPS_HEADER, roundTrips);
+    }
+
+    private static ResultMatcher atMost(String name, long budget) {
+        return result -> {
+            String value = result.getResponse().getHeader(name);
+            assertThat(value).as(name).isNotNull();
+            assertThat(Long.parseLong(value)).as(name).isLessThanOrEqualTo(budget);
+        };
+    }
+}
@@ -0,0 +1,56 @@
+// k6 load profile for comparing platform-thread and virtual-thread request handling.
+// Usage: k6 run -e BASE_URL=http://localhost:8080 -e VUS=2000 infra/loadtest/todos.js
+// Start the API with TODO_RATE_LIMIT_ENABLED=false: every VU sends back to back, so with the
+// per-user limits on, most requests would be answered 429 by the limiter instead.
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const VUS = Number(__ENV.VUS || 2000);
+// Distinct users the VUs are spread over; each one's list is seeded with 20 todos.
+const USERS = Number(__ENV.USERS || 200);
+
+export const options = {
+  scenarios: {
+    mixed: {
+      executor: 'ramping-vus',
+      startVUs: 0,
+      stages: [
+        { duration: '30s', target: VUS },
+        { duration: '2m', target: VUS },
+        { duration: '15s', target: 0 }
+      ],
+      gracefulRampDown: '10s'
+    }
+  },
+  summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max']
+};
+
+function headers(uid) {
+  // The placeholder verifier accepts the bearer token as the UID.
+  return { Authorization: `Bearer ${uid}`, 'Content-Type': 'application/json' };
+}
+
+export function setup() {
+  // Seed a modest list per user so reads exercise real rows.
+  for (let vu = 1; vu <= Math.min(VUS, USERS); vu++) {
+    for (let i = 0; i < 20; i++) {
+      http.post(`${BASE_URL}/api/todos`, JSON.stringify({ title: `Seed ${i}` }), { headers: headers(`load-user-${vu}`) });
+    }
+  }
+}
+
+export default function () {
+  const uid = `load-user-${((__VU - 1) % USERS) + 1}`;
+  // Roughly the web client's mix: mostly list refreshes, some writes.
+  if (Math.random() < 0.8) {
+    const res = http.get(`${BASE_URL}/api/todos`, { headers: headers(uid), tags: { op: 'list' } });
+    check(res, { 'list 200': (r) => r.status === 200, 'not rate limited': (r) => r.status !== 429 });
+  } else {
+    const res = http.post(`${BASE_URL}/api/todos`, JSON.stringify({ title: 'Load' }), {
+      headers: headers(uid),
+      tags: { op: 'create' }
+    });
+    check(res, { 'create 201': (r) => r.status === 201, 'not rate limited': (r) => r.status !== 429 });
+  }
+}
@@ -1,6 +1,15 @@
 const API_BASE_URL = process.env.NEXT_PUBLIC_API_BASE_URL ?? '';
 
-export type TodoFilter = 'all' | 'active' | 'done';
+export type TodoFilter = 'all' | 'active' | 'done' | 'overdue';
+
+export type TodoSort = 'created' | 'due' | 'updated';
+
+export interface TodoListOptions {
+  sort?: TodoSort;
+  /** Inclusive ISO dates (yyyy-MM-dd); either bound excludes todos without a due date. */
+  dueFrom?: string;
+  dueTo?: string;
+}
 
 export interface TodoDto {
   id: string;
@@ -22,6 +31,23 @@ export interface UpdateTodoInput {
   done?: boolean;
 }
 
+export interface TodoChangesDto {
+  upserted: TodoDto[];
+  deleted: string[];
+  syncToken: string;
+  /** When true the lists are empty: reload the full list, then keep syncing from syncToken. */
+  resetRequired: boolean;
+}
+
+export type TodoEventType = 'created' | 'updated' | 'deleted';
+
+export interface TodoEventDto {
+  type: TodoEventType;
+  id: string;
+  /** Resulting state; absent for deletions. */
+  todo?: TodoDto;
+}
+
 export class ApiError extends Error {
   public readonly status: number;
   public readonly detail?: unknown;
@@ -55,9 +81,11 @@ function resolveUrl(path: string, query?: Record<string, string | number | undef
   return url.toString();
 }
 
-async function request<T>(path: string, token: string, init?: RequestInit): Promise<T> {
+async function send(path: string, token: string, init?: RequestInit): Promise<Response> {
   const headers = new Headers(init?.headers);
-  headers.set('Accept', 'application/json');
+  if (!headers.has('Accept')) {
+    headers.set('Accept', 'application/json');
+  }
   if (token) {
     headers.set('Authorization', `Bearer ${token}`);
   }
@@ -86,7 +114,10 @@ async function request<T>(path: string, token: string, init?: RequestInit): Prom
     }
     throw new ApiError(response.statusText || 'Request failed', response.status, detail);
   }
+  return response;
+}
 
+async function parseBody<T>(response: Response): Promise<T> {
   if (response.status === 204) {
     return undefined as T;
   }
@@ -98,9 +129,62 @@ async function request<T>(path: string, token: string, init?: RequestInit): Prom
   return JSON.parse(text) as T;
 }
 
-export async function fetchTodos(filter: TodoFilter, token: string): Promise<TodoDto[]> {
-  const url = resolveUrl('/api/todos', filter === 'all' ? undefined : { status: filter });
-  return request<TodoDto[]>(url, token);
+async function request<T>(path: string, token: string, init?: RequestInit): Promise<T> {
+  return parseBody<T>(await send(path, token, init));
+}
+
+const NEXT_CURSOR_HEADER = 'X-Next-Cursor';
+
+export async function fetchTodos(
+  filter: TodoFilter,
+  token: string,
+  options: TodoListOptions = {}
+): Promise<TodoDto[]> {
+  const todos: TodoDto[] = [];
+  let cursor: string | undefined;
+  do {
+    const url = resolveUrl('/api/todos', {
+      status: filter === 'all' ? undefined : filter,
+      sort: options.sort,
+      dueFrom: options.dueFrom,
+      dueTo: options.dueTo,
+      cursor
+    });
+    const response = await send(url, token);
+    const page = await parseBody<TodoDto[] | undefined>(response);
+    if (page) {
+      todos.push(...page);
+    }
+    cursor = response.headers.get(NEXT_CURSOR_HEADER) ?? undefined;
+  } while (cursor);
+  return todos;
+}
+
+export interface TodoSearchPage {
+  items: TodoDto[];
+  nextCursor?: string;
+}
+
+/** One page of title matches, best match first; pass nextCursor back for the following page. */
+export async function searchTodos(
+  term: string,
+  filter: TodoFilter,
+  token: string,
+  cursor?: string
+): Promise<TodoSearchPage> {
+  const url = resolveUrl('/api/todos', {
+    q: term,
+    status: filter === 'all' ? undefined : filter,
+    cursor
+  });
+  const response = await send(url, token);
+  const items = (await parseBody<TodoDto[] | undefined>(response)) ?? [];
+  return { items, nextCursor: response.headers.get(NEXT_CURSOR_HEADER) ?? undefined };
+}
+
+export async function fetchTodoChanges(since: string | undefined, token: string): Promise<TodoChangesDto> {
+  const url = resolveUrl('/api/todos/changes', { since });
+  return request<TodoChangesDto>(url, token);
 }
 
 export async function createTodo(input: CreateTodoInput, token: string): Promise<TodoDto> {
@@ -139,3 +223,49 @@ export async function deleteTodo(id: string, token: string): Promise<void> {
   const url = resolveUrl(`/api/todos/${id}`);
   await request<void>(url, token, { method: 'DELETE' });
 }
+
+/**
+ * Opens the server-sent todo event stream. EventSource cannot send an Authorization header,
+ * so the stream is read through fetch. Resolves when the server closes the stream (e.g. after
+ * evicting a slow client); callers should resync via fetchTodoChanges and reconnect.
+ */
+export async function streamTodoEvents(
+  token: string,
+  onEvent: (event: TodoEventDto) => void,
+  signal?: AbortSignal
+): Promise<void> {
+  const response = await send(resolveUrl('/api/todos/stream'), token, {
+    headers: { Accept: 'text/event-stream' },
+    signal
+  });
+  if (!response.body) {
+    return;
+  }
+  const reader = response.body.pipeThrough(new TextDecoderStream()).getReader();
+  let buffer = '';
+  for (;;) {
+    const { value, done } = await reader.read();
+    if (done) {
+      return;
+    }
+    buffer += value;
+    let boundary = buffer.indexOf('\n\n');
+    while (boundary >= 0) {
+      const block = buffer.slice(0, boundary);
+      buffer = buffer.slice(boundary + 2);
+      let type: string | undefined;
+      let data = '';
+      for (const line of block.split('\n')) {
+        if (line.startsWith('event:')) {
+          type = line.slice(6).trim();
+        } else if (line.startsWith('data:')) {
+          data += line.slice(5).trim();
+        }
+      }
+      if (type && data) {
+        onEvent({ type: type as TodoEventType, ...(JSON.parse(data) as Omit<TodoEventDto, 'type'>) });
+      }
+      boundary = buffer.indexOf('\n\n');
+    }
+  }
+}